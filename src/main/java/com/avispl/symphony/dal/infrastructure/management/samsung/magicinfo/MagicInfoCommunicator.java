@@ -11,22 +11,36 @@ import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -52,11 +66,18 @@ import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.auth.TokenManager;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache.AggregatedDeviceCache;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache.DisplayControlsSnapshots;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache.CompactDeviceCodec;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache.WarmStartCache;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.DisplayInfo;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.EnumTypeHandler;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.GeneralInfo;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.MagicInfoCommand;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.MagicInfoConstant;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.PollingGroup;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.SystemInfo;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.filter.FunctionFilterEnum;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.general.SourceEnum;
@@ -73,8 +94,15 @@ import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.commo
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.screen.RepeatModeEnum;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.screen.TimerEnum;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.sound.SoundModeEnum;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control.ConfirmationMultiplexer;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control.ControlConfirmationTracker;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control.DeviceLocks;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control.FieldControl;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.dto.DeviceInformationResponse;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.dto.IntervalTimer;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.dto.RepeatTimer;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine.CollectionEngine;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine.CollectionTask;
 import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.statistics.DynamicStatisticsDefinition;
 import com.avispl.symphony.dal.util.StringUtils;
 
@@ -195,89 +223,179 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class MagicInfoCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
 	/**
-	 * Process that is running constantly and triggers collecting data from Samsung MagicInfo API endpoints, based on the given timeouts and thresholds.
+	 * Process that triggers collecting data from Samsung MagicInfo API endpoints. Every {@link PollingGroup} is refreshed
+	 * by its own {@link CollectionTask}, based on the interval configured for the group.
+	 * The tasks run on the process wide {@link CollectionEngine}, shared by every aggregator instance, which parks until
+	 * the next task is due and is woken up by
+	 * {@link #getMultipleStatistics()}, {@link #retrieveMultipleStatistics()} and {@link #controlProperty(ControllableProperty)},
+	 * so a paused aggregator does not wake up at all and resumes collecting as soon as it is requested again.
 	 *
 	 * @author Harry
 	 * @since 1.0.0
 	 */
-	class MagicInfoDataLoader implements Runnable {
-		private volatile boolean inProgress;
-		private volatile boolean flag = false;
+	class MagicInfoDataLoader {
+		private final CollectionEngine.Registration engine = CollectionEngine.getInstance().register(getHost(), getPort(), maxConcurrentRequests);
 
-		public MagicInfoDataLoader() {
-			inProgress = true;
+		/**
+		 * Registers the refresh tasks of the polling groups with the engine.
+		 * Dashboard and device list are requested by {@link #getMultipleStatistics()} on its first call, so their first
+		 * refresh happens after one interval. Device details are refreshed only while the aggregator is not paused.
+		 * The API token is refreshed ahead of its expiry while the aggregator is active, so no refresh waits for a login.
+		 */
+		public void start() {
+			register(PollingGroup.DASHBOARD, () -> dashboardRefreshInterval, dashboardRefreshInterval, MagicInfoCommunicator.this::isAggregatorActive,
+					MagicInfoCommunicator.this::retrieveSystemInfo);
+			register(PollingGroup.DEVICE_LIST, () -> deviceListRefreshInterval, deviceListRefreshInterval, MagicInfoCommunicator.this::isAggregatorActive,
+					MagicInfoCommunicator.this::filterDevice);
+			// without incremental refresh, general information is requested with every display information refresh already
+			register(PollingGroup.GENERAL_INFO, () -> generalInfoRefreshInterval, generalInfoRefreshInterval, () -> incrementalRefresh && isDeviceCollectionActive(),
+					() -> populateDeviceDetails(true, false));
+			register(PollingGroup.DISPLAY_INFO, () -> displayInfoRefreshInterval, 0, MagicInfoCommunicator.this::isDeviceCollectionActive,
+					() -> populateDeviceDetails(!incrementalRefresh, true));
+			engine.register(new CollectionTask(MagicInfoConstant.TOKEN_REFRESH, tokenManager::getRefreshDelay, tokenManager.getRefreshDelay(),
+					MagicInfoCommunicator.this::isAggregatorActive, () -> {
+				try {
+					tokenManager.refresh();
+				} catch (Exception e) {
+					logger.error("Error while refreshing the API token", e);
+				}
+			}));
 		}
 
-		@Override
-		public void run() {
-			loop:
-			while (inProgress) {
+		/**
+		 * Registers the refresh task of a polling group.
+		 * Errors are logged, so a failing refresh does not cancel the following ones.
+		 *
+		 * @param group polling group refreshed by the task
+		 * @param interval delay in milliseconds between the end of a run and the start of the next one
+		 * @param initialDelay delay in milliseconds before the first run
+		 * @param enabled whether the group may be refreshed at the moment
+		 * @param task refresh task
+		 */
+		private void register(PollingGroup group, LongSupplier interval, long initialDelay, BooleanSupplier enabled, Runnable task) {
+			engine.register(new CollectionTask(group.getName(), interval, initialDelay, enabled, () -> {
 				try {
-					TimeUnit.MILLISECONDS.sleep(500);
-				} catch (InterruptedException e) {
-					// Ignore for now
+					// next line will determine whether MagicInfo monitoring was paused
+					updateAggregatorStatus();
+					task.run();
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Finished refreshing %s at %s", group.getName(), new Date()));
+					}
+				} catch (Exception e) {
+					logger.error(String.format("Error while refreshing %s", group.getName()), e);
 				}
+			}));
+		}
 
-				if (!inProgress) {
-					break loop;
-				}
+		/**
+		 * Wakes up the engine, so paused groups are refreshed right away if they are due
+		 */
+		public void wakeUp() {
+			engine.signal();
+		}
 
-				// next line will determine whether MagicInfo monitoring was paused
-				updateAggregatorStatus();
-				if (devicePaused) {
-					continue loop;
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Fetching other than Chrome OS device list");
-				}
-				long currentTimestamp = System.currentTimeMillis();
-				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-					populateDeviceDetails();
-					flag = true;
-				}
+		/**
+		 * Makes a polling group due right away
+		 *
+		 * @param group polling group to refresh
+		 */
+		public void requestRefresh(PollingGroup group) {
+			engine.requestRefresh(group.getName());
+		}
 
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
-					} catch (InterruptedException e) {
-						//
-					}
-				}
+		/**
+		 * Submits an API request, which runs on the engine as soon as the host has capacity for it
+		 *
+		 * @param request request to run
+		 * @param <T> type of the request result
+		 * @return future of the request result
+		 */
+		public <T> Future<T> submit(Callable<T> request) {
+			return engine.submit(request);
+		}
 
-				if (!inProgress) {
-					break loop;
-				}
-				if (flag) {
-					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
-					flag = false;
-				}
+		/**
+		 * Submits an API request of a control, which runs on the engine before the queued collection requests
+		 *
+		 * @param request request to run
+		 * @param <T> type of the request result
+		 * @return future of the request result
+		 */
+		public <T> Future<T> submitPriority(Callable<T> request) {
+			return engine.submitPriority(request);
+		}
 
-				if (logger.isDebugEnabled()) {
-					logger.debug("Finished collecting devices statistics cycle at " + new Date());
-				}
-			}
-			// Finished collecting
+		/**
+		 * Submits a control, which runs on the engine in parallel with other controls
+		 *
+		 * @param control control to run
+		 * @param <T> type of the control result
+		 * @return future of the control result
+		 */
+		public <T> Future<T> submitControl(Callable<T> control) {
+			return engine.submitControl(control);
 		}
 
 		/**
-		 * Triggers main loop to stop
+		 * Stops every refresh task and cancels the pending requests
 		 */
 		public void stop() {
-			inProgress = false;
+			engine.deregister();
 		}
 	}
 
+	/**
+	 * Request for a single page of a paginated MagicInfo device list.
+	 *
+	 * @author Harry
+	 * @since 1.0.0
+	 */
+	@FunctionalInterface
+	interface PageRequest {
+		/**
+		 * Sends the page request.
+		 *
+		 * @param startIndex 1-based index of the first device of the page
+		 * @return page response
+		 * @throws Exception if the request fails
+		 */
+		JsonNode fetch(int startIndex) throws Exception;
+	}
+
+	/**
+	 * Mapping of a single display information property, resolved once per {@link DisplayInfo} entry.
+	 *
+	 * @author Harry
+	 * @since 1.0.0
+	 */
+	@FunctionalInterface
+	interface DisplayPropertyMapping {
+		/**
+		 * Maps the property of a device.
+		 *
+		 * @param value raw value of the property, {@link MagicInfoConstant#NONE} if it is missing
+		 * @param mappingStatistic raw properties of the device
+		 * @param stats mapped statistics of the device
+		 * @param advancedControllableProperties controllable properties of the device
+		 */
+		void map(String value, Map<String, String> mappingStatistic, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties);
+	}
+
 	/**
 	 * Private variable representing the local extended statistics.
 	 */
 	private ExtendedStatistics localExtendedStatistics;
 
 	/**
-	 * A private final ReentrantLock instance used to provide exclusive access to a shared resource
-	 * that can be accessed by multiple threads concurrently. This lock allows multiple reentrant
-	 * locks on the same shared resource by the same thread.
+	 * Lock guarding the aggregator statistics, so concurrent {@link #getMultipleStatistics()} calls do not request the
+	 * dashboard and device list at the same time. Controls do not take it.
+	 */
+	private final ReentrantLock statisticsLock = new ReentrantLock();
+
+	/**
+	 * Per device locks, controls of different devices run concurrently while controls of the same device stay ordered
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private final DeviceLocks deviceLocks = new DeviceLocks(MagicInfoConstant.DEVICE_LOCK_STRIPES);
 
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
@@ -294,21 +412,18 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private volatile boolean devicePaused = true;
 
-	/**
-	 * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
-	 * new devices' statistics loop will be launched before the next monitoring iteration. To avoid that -
-	 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
-	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
-	 * {@link #cachedAggregatedDeviceList} resets it to the currentTime timestamp, which will re-activate data collection.
-	 */
-	private long nextDevicesCollectionIterationTimestamp;
-
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
 	 * It used when device stop retrieving statistic. Updated each time of called #retrieveMultipleStatistics
 	 */
 	private volatile long validRetrieveStatisticsTimestamp;
 
+	/**
+	 * This parameter holds timestamp of when the aggregator statistics stop being refreshed in the background
+	 * Updated each time of called #getMultipleStatistics
+	 */
+	private volatile long validAggregatorStatisticsTimestamp;
+
 	/**
 	 * Aggregator inactivity timeout. If the {@link MagicInfoCommunicator#retrieveMultipleStatistics()}  method is not
 	 * called during this period of time - device is considered to be paused, thus the Cloud API
@@ -316,11 +431,6 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private static final long retrieveStatisticsTimeOut = 3 * 60 * 1000;
 
-	/**
-	 * Executor that runs all the async operations, that is posting and
-	 */
-	private ExecutorService executorService;
-
 	/**
 	 * A private field that represents an instance of the MagicInfoDataLoader class, which is responsible for loading device data for MagicInfo
 	 */
@@ -332,39 +442,60 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
 
 	/**
-	 * List of aggregated device
+	 * Aggregated devices retrieved by {@link MagicInfoDataLoader}, keyed by device id
+	 */
+	private final AggregatedDeviceCache cachedAggregatedDevices = new AggregatedDeviceCache();
+
+	/**
+	 * Aggregated devices with mapped monitoring and controlling properties, keyed by device id
 	 */
-	private List<AggregatedDevice> cachedAggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+	private final AggregatedDeviceCache aggregatedDevices = new AggregatedDeviceCache();
 
 	/**
-	 * List of aggregated device
+	 * Immutable index of the mapped aggregated devices by device id, in device order, served by
+	 * {@link #retrieveMultipleStatistics()} without locking and replaced as a whole whenever the devices are mapped again
+	 * or controlled
 	 */
-	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicReference<Map<String, AggregatedDevice>> publishedAggregatedDevices = new AtomicReference<>(Collections.emptyMap());
 
 	/**
-	 * check control
+	 * Lock serializing the threads that map and publish {@link #aggregatedDevices}, readers of
+	 * {@link #publishedAggregatedDevices} do not take it
 	 */
-	private boolean checkControl = false;
+	private final ReentrantLock publishLock = new ReentrantLock();
 
 	/**
-	 * API Token
+	 * Time in milliseconds of the last successful control per device id, device data collected before it is not mapped
+	 * over the controlled values of the device
 	 */
-	private String apiToken;
+	private final Map<String, Long> deviceControlTimestamps = new ConcurrentHashMap<>();
 
 	/**
-	 * save time get token
+	 * Generation of {@link #cachedAggregatedDevices} that {@link #aggregatedDevices} was last mapped from
 	 */
-	private Long tokenExpire;
+	private long mappedGeneration = -1;
 
 	/**
-	 * time the token expires
+	 * Manager of the API token, which refreshes it ahead of its expiry and shares a single login between concurrent
+	 * requests
 	 */
-	private Long expiresIn = 1500L * 1000;
+	private final TokenManager tokenManager = new TokenManager(this::requestToken, MagicInfoConstant.TOKEN_LIFETIME_DEFAULT, MagicInfoConstant.TOKEN_LIFETIME_MIN,
+			MagicInfoConstant.TOKEN_LIFETIME_MAX, MagicInfoConstant.TOKEN_REFRESH_MARGIN, MagicInfoConstant.TOKEN_REFRESH_RETRY_DELAY);
 
 	/**
 	 * A JSON node containing the response from an aggregator.
 	 */
-	private JsonNode aggregatorResponse;
+	private volatile JsonNode aggregatorResponse;
+
+	/**
+	 * Timestamp of the last successful dashboard request
+	 */
+	private volatile long lastDashboardRefreshTimestamp;
+
+	/**
+	 * Timestamp of the last successful device list request
+	 */
+	private volatile long lastDeviceListRefreshTimestamp;
 
 	/**
 	 * A list of aggregated IDs, synchronized for thread safety.
@@ -391,6 +522,154 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private String filterFunction;
 
+	/**
+	 * Number of devices requested per page when enumerating the device list.
+	 */
+	private int devicePageSize = MagicInfoConstant.PAGE_SIZE_DEFAULT_DEVICE;
+
+	/**
+	 * Number of devices requested per page when filtering the device list.
+	 */
+	private int filterPageSize = MagicInfoConstant.PAGE_SIZE_DEFAULT_FILTER;
+
+	/**
+	 * Number of device ids sent in a single general-info/display-info request.
+	 */
+	private int deviceInfoChunkSize = MagicInfoConstant.DEVICE_INFO_CHUNK_SIZE_DEFAULT;
+
+	/**
+	 * Interval in milliseconds between two requests of the dashboard device counts.
+	 */
+	private long dashboardRefreshInterval = PollingGroup.DASHBOARD.getDefaultInterval();
+
+	/**
+	 * Interval in milliseconds between two requests of the device list.
+	 */
+	private long deviceListRefreshInterval = PollingGroup.DEVICE_LIST.getDefaultInterval();
+
+	/**
+	 * Interval in milliseconds after which the general information of every device is requested again.
+	 * In between, general information is only requested for new devices and for devices whose device list entry
+	 * (e.g. lastConnectionTime) has changed.
+	 */
+	private long generalInfoRefreshInterval = PollingGroup.GENERAL_INFO.getDefaultInterval();
+
+	/**
+	 * Interval in milliseconds between two requests of the display information of every device.
+	 */
+	private long displayInfoRefreshInterval = PollingGroup.DISPLAY_INFO.getDefaultInterval();
+
+	/**
+	 * Interval in milliseconds during which a successful connection check of a device is reused by controls.
+	 */
+	private long connectionCheckInterval = PollingGroup.CONNECTION_CHECK.getDefaultInterval();
+
+	/**
+	 * Whether devices are refreshed incrementally: general information on {@link #generalInfoRefreshInterval},
+	 * and only devices whose data has changed are passed to the {@link #aggregatedDeviceProcessor}
+	 */
+	private boolean incrementalRefresh = true;
+
+	/**
+	 * Codec of the cached device information, keeping only the fields read by the model mapping
+	 */
+	private final CompactDeviceCodec deviceCodec;
+
+	/**
+	 * Top level fields of the general and display information items read from the responses: the fields read by the
+	 * model mapping and by the controls, other fields are skipped while the responses are streamed
+	 */
+	private final Set<String> deviceInformationFields;
+
+	/**
+	 * Last general information item received per device id, encoded by the {@link #deviceCodec}
+	 */
+	private final Map<String, byte[]> cachedGeneralInfo = new ConcurrentHashMap<>();
+
+	/**
+	 * Last display information item received per device id, encoded by the {@link #deviceCodec}
+	 */
+	private final Map<String, byte[]> cachedDisplayInfo = new ConcurrentHashMap<>();
+
+	/**
+	 * Display information per device id, used to build the body of group controls
+	 */
+	private final DisplayControlsSnapshots displayControlsSnapshots = new DisplayControlsSnapshots(MagicInfoConstant.DISPLAY_CONTROLS_SNAPSHOT_FIELDS);
+
+	/**
+	 * Maximum age in milliseconds of the display information used to build the body of group controls, older display
+	 * information is requested again before the control is sent.
+	 */
+	private long displayControlsSnapshotMaxAge = MagicInfoConstant.DISPLAY_CONTROLS_SNAPSHOT_MAX_AGE_DEFAULT;
+
+	/**
+	 * Directory of the warm start cache file, which keeps the last raw device information across restarts
+	 */
+	private String warmStartCacheDirectory = System.getProperty("java.io.tmpdir");
+
+	/**
+	 * Maximum age in milliseconds of a warm start cache file loaded on init, 0 disables the warm start cache
+	 */
+	private long warmStartCacheMaxAge = MagicInfoConstant.WARM_START_CACHE_MAX_AGE_DEFAULT;
+
+	/**
+	 * Time in milliseconds the warm start cache file was last written at
+	 */
+	private volatile long lastWarmStartCacheSaveTimestamp;
+
+	/**
+	 * Time in milliseconds the device details currently cached started to be collected at
+	 */
+	private volatile long lastDeviceDetailsRefreshTimestamp;
+
+	/**
+	 * Timestamp of the last successful connection check per device id
+	 */
+	private final Map<String, Long> deviceConnectionTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Hash of the device list entry per device id, as of the last device list request
+	 */
+	private final Map<String, Integer> deviceListSignatures = new ConcurrentHashMap<>();
+
+	/**
+	 * Hash of the device list entry per device id, as of the last general information request for the device
+	 */
+	private final Map<String, Integer> generalInfoSignatures = new ConcurrentHashMap<>();
+
+	/**
+	 * Hash of the combined general and display information per device id, as of the last processed refresh
+	 */
+	private final Map<String, Integer> deviceContentHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Maximum number of API requests sent in parallel to the MagicInfo server, shared by every aggregator instance of the host.
+	 */
+	private int maxConcurrentRequests = MagicInfoConstant.MAX_CONCURRENT_REQUESTS_DEFAULT;
+
+	/**
+	 * Time in milliseconds a control waits for the device to confirm it, before the control fails.
+	 */
+	private long controlConfirmationTimeout = MagicInfoConstant.CONTROL_CONFIRMATION_TIMEOUT_DEFAULT;
+
+	/**
+	 * Tracker polling the confirmation of controls, its requests run on the {@link CollectionEngine} ahead of the
+	 * queued collection requests
+	 */
+	private final ControlConfirmationTracker confirmationTracker = new ControlConfirmationTracker(request -> submitControlRequest(Executors.callable(request)),
+			MagicInfoConstant.CONTROL_CONFIRMATION_INITIAL_DELAY, MagicInfoConstant.CONTROL_CONFIRMATION_MAX_DELAY);
+
+	/**
+	 * Multiplexer polling the outstanding control confirmations of the same request id together
+	 */
+	private final ConfirmationMultiplexer<JsonNode> confirmationMultiplexer = new ConfirmationMultiplexer<>(confirmationTracker, this::pollUpdateDisplay);
+
+	/**
+	 * Mapping of every display information property, indexed by {@link DisplayInfo#ordinal()} and compiled once, so
+	 * mapping a device does not resolve property names, option lists or validators again
+	 */
+	private final DisplayPropertyMapping[] displayMappingPlan = compileDisplayMappingPlan();
+
 	/**
 	 * Retrieves {@link #filterDeviceType}
 	 *
@@ -445,6 +724,258 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		this.filterFunction = filterFunction;
 	}
 
+	/**
+	 * Retrieves {@link #devicePageSize}
+	 *
+	 * @return value of {@link #devicePageSize}
+	 */
+	public int getDevicePageSize() {
+		return devicePageSize;
+	}
+
+	/**
+	 * Sets {@link #devicePageSize} value
+	 *
+	 * @param devicePageSize new value of {@link #devicePageSize}
+	 */
+	public void setDevicePageSize(int devicePageSize) {
+		this.devicePageSize = devicePageSize > 0 ? devicePageSize : MagicInfoConstant.PAGE_SIZE_DEFAULT_DEVICE;
+	}
+
+	/**
+	 * Retrieves {@link #filterPageSize}
+	 *
+	 * @return value of {@link #filterPageSize}
+	 */
+	public int getFilterPageSize() {
+		return filterPageSize;
+	}
+
+	/**
+	 * Sets {@link #filterPageSize} value
+	 *
+	 * @param filterPageSize new value of {@link #filterPageSize}
+	 */
+	public void setFilterPageSize(int filterPageSize) {
+		this.filterPageSize = filterPageSize > 0 ? filterPageSize : MagicInfoConstant.PAGE_SIZE_DEFAULT_FILTER;
+	}
+
+	/**
+	 * Retrieves {@link #deviceInfoChunkSize}
+	 *
+	 * @return value of {@link #deviceInfoChunkSize}
+	 */
+	public int getDeviceInfoChunkSize() {
+		return deviceInfoChunkSize;
+	}
+
+	/**
+	 * Sets {@link #deviceInfoChunkSize} value
+	 *
+	 * @param deviceInfoChunkSize new value of {@link #deviceInfoChunkSize}
+	 */
+	public void setDeviceInfoChunkSize(int deviceInfoChunkSize) {
+		this.deviceInfoChunkSize = deviceInfoChunkSize > 0 ? deviceInfoChunkSize : MagicInfoConstant.DEVICE_INFO_CHUNK_SIZE_DEFAULT;
+	}
+
+	/**
+	 * Retrieves {@link #dashboardRefreshInterval}
+	 *
+	 * @return value of {@link #dashboardRefreshInterval}
+	 */
+	public long getDashboardRefreshInterval() {
+		return dashboardRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #dashboardRefreshInterval} value
+	 *
+	 * @param dashboardRefreshInterval new value of {@link #dashboardRefreshInterval}
+	 */
+	public void setDashboardRefreshInterval(long dashboardRefreshInterval) {
+		this.dashboardRefreshInterval = dashboardRefreshInterval > 0 ? dashboardRefreshInterval : PollingGroup.DASHBOARD.getDefaultInterval();
+	}
+
+	/**
+	 * Retrieves {@link #deviceListRefreshInterval}
+	 *
+	 * @return value of {@link #deviceListRefreshInterval}
+	 */
+	public long getDeviceListRefreshInterval() {
+		return deviceListRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #deviceListRefreshInterval} value
+	 *
+	 * @param deviceListRefreshInterval new value of {@link #deviceListRefreshInterval}
+	 */
+	public void setDeviceListRefreshInterval(long deviceListRefreshInterval) {
+		this.deviceListRefreshInterval = deviceListRefreshInterval > 0 ? deviceListRefreshInterval : PollingGroup.DEVICE_LIST.getDefaultInterval();
+	}
+
+	/**
+	 * Retrieves {@link #displayInfoRefreshInterval}
+	 *
+	 * @return value of {@link #displayInfoRefreshInterval}
+	 */
+	public long getDisplayInfoRefreshInterval() {
+		return displayInfoRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #displayInfoRefreshInterval} value
+	 *
+	 * @param displayInfoRefreshInterval new value of {@link #displayInfoRefreshInterval}
+	 */
+	public void setDisplayInfoRefreshInterval(long displayInfoRefreshInterval) {
+		this.displayInfoRefreshInterval = displayInfoRefreshInterval > 0 ? displayInfoRefreshInterval : PollingGroup.DISPLAY_INFO.getDefaultInterval();
+	}
+
+	/**
+	 * Retrieves {@link #connectionCheckInterval}
+	 *
+	 * @return value of {@link #connectionCheckInterval}
+	 */
+	public long getConnectionCheckInterval() {
+		return connectionCheckInterval;
+	}
+
+	/**
+	 * Sets {@link #connectionCheckInterval} value
+	 *
+	 * @param connectionCheckInterval new value of {@link #connectionCheckInterval}
+	 */
+	public void setConnectionCheckInterval(long connectionCheckInterval) {
+		this.connectionCheckInterval = connectionCheckInterval;
+	}
+
+	/**
+	 * Retrieves {@link #generalInfoRefreshInterval}
+	 *
+	 * @return value of {@link #generalInfoRefreshInterval}
+	 */
+	public long getGeneralInfoRefreshInterval() {
+		return generalInfoRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #generalInfoRefreshInterval} value
+	 *
+	 * @param generalInfoRefreshInterval new value of {@link #generalInfoRefreshInterval}
+	 */
+	public void setGeneralInfoRefreshInterval(long generalInfoRefreshInterval) {
+		this.generalInfoRefreshInterval = generalInfoRefreshInterval > 0 ? generalInfoRefreshInterval : PollingGroup.GENERAL_INFO.getDefaultInterval();
+	}
+
+	/**
+	 * Retrieves {@link #incrementalRefresh}
+	 *
+	 * @return value of {@link #incrementalRefresh}
+	 */
+	public boolean isIncrementalRefresh() {
+		return incrementalRefresh;
+	}
+
+	/**
+	 * Sets {@link #incrementalRefresh} value
+	 *
+	 * @param incrementalRefresh new value of {@link #incrementalRefresh}
+	 */
+	public void setIncrementalRefresh(boolean incrementalRefresh) {
+		this.incrementalRefresh = incrementalRefresh;
+	}
+
+	/**
+	 * Retrieves {@link #displayControlsSnapshotMaxAge}
+	 *
+	 * @return value of {@link #displayControlsSnapshotMaxAge}
+	 */
+	public long getDisplayControlsSnapshotMaxAge() {
+		return displayControlsSnapshotMaxAge;
+	}
+
+	/**
+	 * Sets {@link #displayControlsSnapshotMaxAge} value
+	 *
+	 * @param displayControlsSnapshotMaxAge new value of {@link #displayControlsSnapshotMaxAge}
+	 */
+	public void setDisplayControlsSnapshotMaxAge(long displayControlsSnapshotMaxAge) {
+		this.displayControlsSnapshotMaxAge = displayControlsSnapshotMaxAge;
+	}
+
+	/**
+	 * Retrieves {@link #warmStartCacheDirectory}
+	 *
+	 * @return value of {@link #warmStartCacheDirectory}
+	 */
+	public String getWarmStartCacheDirectory() {
+		return warmStartCacheDirectory;
+	}
+
+	/**
+	 * Sets {@link #warmStartCacheDirectory} value
+	 *
+	 * @param warmStartCacheDirectory new value of {@link #warmStartCacheDirectory}
+	 */
+	public void setWarmStartCacheDirectory(String warmStartCacheDirectory) {
+		this.warmStartCacheDirectory = warmStartCacheDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #warmStartCacheMaxAge}
+	 *
+	 * @return value of {@link #warmStartCacheMaxAge}
+	 */
+	public long getWarmStartCacheMaxAge() {
+		return warmStartCacheMaxAge;
+	}
+
+	/**
+	 * Sets {@link #warmStartCacheMaxAge} value
+	 *
+	 * @param warmStartCacheMaxAge new value of {@link #warmStartCacheMaxAge}
+	 */
+	public void setWarmStartCacheMaxAge(long warmStartCacheMaxAge) {
+		this.warmStartCacheMaxAge = warmStartCacheMaxAge;
+	}
+
+	/**
+	 * Retrieves {@link #controlConfirmationTimeout}
+	 *
+	 * @return value of {@link #controlConfirmationTimeout}
+	 */
+	public long getControlConfirmationTimeout() {
+		return controlConfirmationTimeout;
+	}
+
+	/**
+	 * Sets {@link #controlConfirmationTimeout} value
+	 *
+	 * @param controlConfirmationTimeout new value of {@link #controlConfirmationTimeout}
+	 */
+	public void setControlConfirmationTimeout(long controlConfirmationTimeout) {
+		this.controlConfirmationTimeout = controlConfirmationTimeout > 0 ? controlConfirmationTimeout : MagicInfoConstant.CONTROL_CONFIRMATION_TIMEOUT_DEFAULT;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentRequests}
+	 *
+	 * @return value of {@link #maxConcurrentRequests}
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentRequests} value
+	 *
+	 * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests > 0 ? maxConcurrentRequests : MagicInfoConstant.MAX_CONCURRENT_REQUESTS_DEFAULT;
+	}
+
 	/**
 	 * Retrieves {@link #historicalProperties}
 	 *
@@ -475,6 +1006,25 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
 	}
 
+	/**
+	 * Checks whether the aggregator statistics were requested recently, so dashboard and device list should be refreshed.
+	 *
+	 * @return true if {@link #getMultipleStatistics()} was called during the last {@link #retrieveStatisticsTimeOut}
+	 */
+	private boolean isAggregatorActive() {
+		return validAggregatorStatisticsTimestamp >= System.currentTimeMillis();
+	}
+
+	/**
+	 * Checks whether device details should be collected, without taking the lock of {@link #updateAggregatorStatus()},
+	 * since the check is made by the {@link CollectionEngine} thread while it holds its own lock.
+	 *
+	 * @return true if {@link #retrieveMultipleStatistics()} was called during the last {@link #retrieveStatisticsTimeOut}
+	 */
+	private boolean isDeviceCollectionActive() {
+		return validRetrieveStatisticsTimestamp >= System.currentTimeMillis();
+	}
+
 	/**
 	 * Uptime time stamp to valid one
 	 */
@@ -492,6 +1042,17 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	public MagicInfoCommunicator() throws IOException {
 		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(MagicInfoConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
 		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		deviceCodec = CompactDeviceCodec.forMappings(mapping.values(), Arrays.asList(Collections.singletonList(MagicInfoConstant.DEVICE_ID),
+				Arrays.asList(MagicInfoConstant.GENERAL_CONF, MagicInfoConstant.DEVICE_ID)));
+		Set<String> fields = new HashSet<>(Arrays.asList(MagicInfoConstant.AUTO_SOURCE, MagicInfoConstant.MNT_AUTO, MagicInfoConstant.MNT_PIXEL_SHIFT,
+				MagicInfoConstant.MNT_SAFETY_SCREEN_TIMER, MagicInfoConstant.WEB_BROWSER_URL));
+		deviceCodec.getPaths().forEach(path -> fields.add(path.get(0)));
+		for (DisplayInfo displayInfo : DisplayInfo.values()) {
+			if (!displayInfo.getFieldName().isEmpty()) {
+				fields.add(displayInfo.getFieldName());
+			}
+		}
+		deviceInformationFields = Collections.unmodifiableSet(fields);
 		this.setTrustAllCertificates(true);
 	}
 
@@ -547,20 +1108,30 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
+		statisticsLock.lock();
 		try {
 			if (!checkValidApiToken()) {
 				throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
 			}
 			Map<String, String> statistics = new HashMap<>();
 			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveSystemInfo();
-			filterDevice();
+			long currentTimestamp = System.currentTimeMillis();
+			validAggregatorStatisticsTimestamp = currentTimestamp + retrieveStatisticsTimeOut;
+			if (deviceDataLoader != null) {
+				deviceDataLoader.wakeUp();
+			}
+			// dashboard and device list are refreshed by MagicInfoDataLoader, they are only requested here if they are outdated
+			if (currentTimestamp - lastDashboardRefreshTimestamp >= dashboardRefreshInterval) {
+				retrieveSystemInfo();
+			}
+			if (currentTimestamp - lastDeviceListRefreshTimestamp >= deviceListRefreshInterval) {
+				filterDevice();
+			}
 			populateSystemData(statistics);
 			extendedStatistics.setStatistics(statistics);
 			localExtendedStatistics = extendedStatistics;
 		} finally {
-			reentrantLock.unlock();
+			statisticsLock.unlock();
 		}
 		return Collections.singletonList(localExtendedStatistics);
 	}
@@ -581,25 +1152,32 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 			propertyName = propertyList[1];
 		}
 
-		reentrantLock.lock();
+		ReentrantLock deviceLock = deviceLocks.get(deviceId);
+		deviceLock.lock();
 		try {
-			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-			if (aggregatedDevice.isPresent()) {
-				Map<String, String> stats = aggregatedDevice.get().getProperties();
-				List<AdvancedControllableProperty> advancedControllableProperties = aggregatedDevice.get().getControllableProperties();
+			AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				// the published view is never modified, the control works on a copy that replaces it
+				Map<String, String> stats = new HashMap<>(aggregatedDevice.getProperties());
+				List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>(aggregatedDevice.getControllableProperties());
 				boolean controlPropagated = true;
 
 				DisplayInfo propertyItem = getByName(propertyName);
 				JsonNode cachedValue = null;
 				if (propertyItem.isObject()) {
-					cachedValue = getDisplayControlsInfo(deviceId);
+					cachedValue = getDisplayControlsSnapshot(deviceId);
 				}
+				// the control changes the device, its snapshot can not be trusted until it is collected again
+				displayControlsSnapshots.invalidate(deviceId);
 				switch (propertyItem) {
 					case POWER:
 						sendPowerCommand(deviceId, value);
+						// the power state is part of the general information, it is requested again with the next refresh
+						generalInfoSignatures.remove(deviceId);
 						break;
 					case RESTART:
 						sendRestartCommand(deviceId);
+						generalInfoSignatures.remove(deviceId);
 						break;
 					case RESET_SOUND:
 						sendResetControl(propertyItem, deviceId, "1");
@@ -649,51 +1227,23 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 					case SHARPNESS:
 					case COLOR:
 					case TINT:
-						value = checkValidInput(0, 100, value);
-						sendControlRequest(propertyItem, deviceId, value, value);
-						break;
 					case TEMPERATURE_CONTROL:
-						value = checkValidInput(75, 124, value);
-						sendControlRequest(propertyItem, deviceId, value, value);
-						break;
 					case COLOR_TONE:
-						requestValue = EnumTypeHandler.getValueByName(ColorToneEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case COLOR_TEMPERATURE:
-						requestValue = EnumTypeHandler.getValueByName(ColorTemperatureEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case PICTURE_SIZE:
-						requestValue = EnumTypeHandler.getValueByName(PictureSizeEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case DIGITAL_CLEAN_VIEW:
-						requestValue = EnumTypeHandler.getValueByName(DigitalCleanViewEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case FILM_MODE:
-						requestValue = EnumTypeHandler.getValueByName(FilmModeEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case HDMI_BLACK_LEVEL:
-						requestValue = EnumTypeHandler.getValueByName(HDMIBlackLevelEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case SOUND_MODE:
-						requestValue = EnumTypeHandler.getValueByName(SoundModeEnum.class, value);
-						sendControlRequest(propertyItem, deviceId, requestValue, value);
-						break;
 					case MUTE:
 					case PICTURE_ENHANCER:
 					case REMOTE_CONFIGURATION:
 					case MAX_POWER_SAVING:
 					case AUTO_POWER_ON:
-						sendControlRequest(propertyItem, deviceId, value, getOnOffStatus(value));
-						break;
 					case DISPLAY_PANEL:
-						requestValue = MagicInfoConstant.NUMBER_ONE.equals(value) ? MagicInfoConstant.ZERO : MagicInfoConstant.NUMBER_ONE;
-						sendControlRequest(propertyItem, deviceId, requestValue, MagicInfoConstant.NUMBER_ONE.equals(value) ? MagicInfoConstant.OFF : MagicInfoConstant.ON);
+						FieldControl fieldControl = createFieldControl(propertyItem, value);
+						value = fieldControl.getValue();
+						sendControlRequest(propertyItem, deviceId, fieldControl.getRequestValue(), fieldControl.getDisplayValue());
 						break;
 					case WEB_BROWSER_ZOOM:
 						ObjectNode webBrowserUrl;
@@ -1054,64 +1604,309 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 						break;
 				}
 				if (controlPropagated) {
-					checkControl = true;
+					deviceControlTimestamps.put(deviceId, System.currentTimeMillis());
 					updateLocalControlValue(stats, advancedControllableProperties, property, value);
 					updateListAggregatedDevice(deviceId, stats, advancedControllableProperties);
+					// collect the display information changed by the control without waiting for the next interval
+					if (deviceDataLoader != null) {
+						deviceDataLoader.requestRefresh(PollingGroup.DISPLAY_INFO);
+					}
 				}
 			} else {
 				throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
 			}
 		} finally {
-			reentrantLock.unlock();
+			// display information requested while the control was running may predate it
+			displayControlsSnapshots.invalidate(deviceId);
+			deviceLock.unlock();
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * The controls of a device run one after another, in list order, while controls of different devices run in parallel:
+	 * the n-th control of every device is sent in the n-th round, and a round starts once the previous one is finished.
+	 * Within a round, controls setting the same field to the same value on several devices are sent as a single
+	 * multi-device update display command.
 	 */
 	@Override
 	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
 		if (CollectionUtils.isEmpty(controllableProperties)) {
 			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 		}
+		Map<String, List<ControllableProperty>> deviceControls = new LinkedHashMap<>();
 		for (ControllableProperty p : controllableProperties) {
+			deviceControls.computeIfAbsent(p.getDeviceId(), key -> new ArrayList<>()).add(p);
+		}
+		int roundCount = deviceControls.values().stream().mapToInt(List::size).max().orElse(0);
+		for (int round = 0; round < roundCount; round++) {
+			List<ControllableProperty> roundControls = new ArrayList<>();
+			for (List<ControllableProperty> controls : deviceControls.values()) {
+				if (round < controls.size()) {
+					roundControls.add(controls.get(round));
+				}
+			}
+			controlPropertiesRound(roundControls);
+		}
+	}
+
+	/**
+	 * Runs controls of distinct devices in parallel and waits until every one of them is finished.
+	 * Controls setting the same field to the same value are sent as a single multi-device update display command.
+	 *
+	 * @param controllableProperties controls to run, at most one per device
+	 */
+	private void controlPropertiesRound(List<ControllableProperty> controllableProperties) throws InterruptedException {
+		Map<String, List<ControllableProperty>> sameValueControls = new LinkedHashMap<>();
+		for (ControllableProperty p : controllableProperties) {
+			sameValueControls.computeIfAbsent(p.getProperty() + MagicInfoConstant.HASH + p.getValue(), key -> new ArrayList<>()).add(p);
+		}
+		List<Future<?>> controls = new ArrayList<>();
+		for (List<ControllableProperty> sameValueControl : sameValueControls.values()) {
+			ControllableProperty first = sameValueControl.get(0);
+			FieldControl fieldControl = null;
+			if (sameValueControl.size() > 1) {
+				try {
+					fieldControl = createFieldControl(getControlledProperty(first.getProperty()), String.valueOf(first.getValue()));
+				} catch (Exception e) {
+					// sent one by one below, so every control reports its own error
+					logger.debug(String.format("Can not send control property %s to several devices at once", first.getProperty()), e);
+				}
+			}
+			if (fieldControl != null) {
+				FieldControl bulkFieldControl = fieldControl;
+				List<String> deviceIds = sameValueControl.stream().map(ControllableProperty::getDeviceId).distinct().collect(Collectors.toList());
+				try {
+					controls.add(submitControl(() -> {
+						try {
+							controlPropertyBulk(first.getProperty(), bulkFieldControl, deviceIds);
+						} catch (Exception e) {
+							logger.error(String.format("Error when control property %s", first.getProperty()), e);
+						}
+						return null;
+					}));
+				} catch (RejectedExecutionException e) {
+					logger.error(String.format("Error when control property %s", first.getProperty()), e);
+				}
+				continue;
+			}
+			for (ControllableProperty p : sameValueControl) {
+				try {
+					controls.add(submitControl(() -> {
+						try {
+							controlProperty(p);
+						} catch (Exception e) {
+							logger.error(String.format("Error when control property %s", p.getProperty()), e);
+						}
+						return null;
+					}));
+				} catch (RejectedExecutionException e) {
+					logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				}
+			}
+		}
+		for (Future<?> control : controls) {
 			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				control.get();
+			} catch (ExecutionException e) {
+				logger.error("Error when control properties", e.getCause());
 			}
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sends a field control to several devices in a single update display command and waits until every device confirms it.
+	 * Devices that are disconnected or do not confirm the control are logged and keep their previous value.
+	 *
+	 * @param property name of the controllable property, including its group
+	 * @param fieldControl field control to send
+	 * @param deviceIds ids of the controlled devices
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (!aggregatedIdList.isEmpty()) {
-			if (!checkValidApiToken()) {
-				throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
+	private void controlPropertyBulk(String property, FieldControl fieldControl, List<String> deviceIds) {
+		List<ReentrantLock> locks = deviceLocks.lockAll(deviceIds);
+		try {
+			deviceIds.forEach(displayControlsSnapshots::invalidate);
+			sendBulkControl(property, fieldControl, deviceIds);
+		} finally {
+			// display information requested while the control was running may predate it
+			deviceIds.forEach(displayControlsSnapshots::invalidate);
+			deviceLocks.unlockAll(locks);
+		}
+		if (deviceDataLoader != null) {
+			deviceDataLoader.requestRefresh(PollingGroup.DISPLAY_INFO);
+		}
+	}
+
+	/**
+	 * Sends a field control to several devices while their locks are held.
+	 *
+	 * @param property name of the controllable property, including its group
+	 * @param fieldControl field control to send
+	 * @param deviceIds ids of the controlled devices
+	 */
+	private void sendBulkControl(String property, FieldControl fieldControl, List<String> deviceIds) {
+		DisplayInfo propertyItem = fieldControl.getProperty();
+		List<String> connectedIds = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			if (aggregatedDevices.get(deviceId) == null) {
+				logger.error(String.format("Unable to control property: %s as the device %s does not exist.", property, deviceId));
+			} else if (!checkConnectionDevice(deviceId)) {
+				logger.error(String.format("Unable to control property: %s as the device %s is disconnected.", property, deviceId));
+			} else {
+				connectedIds.add(deviceId);
 			}
-			if (executorService == null) {
-				executorService = Executors.newFixedThreadPool(1);
-				executorService.submit(deviceDataLoader = new MagicInfoDataLoader());
+		}
+		if (connectedIds.isEmpty()) {
+			return;
+		}
+		ObjectNode body = objectMapper.createObjectNode();
+		body.set(MagicInfoConstant.DEVICE_IDS, objectMapper.valueToTree(connectedIds));
+		body.put(propertyItem.getFieldName(), fieldControl.getRequestValue());
+		String requestId = getRequestIdByUpdateCommand(body);
+
+		Map<String, CompletableFuture<JsonNode>> confirmations = new LinkedHashMap<>();
+		connectedIds.forEach(deviceId -> confirmations.put(deviceId, confirmUpdate(deviceId, requestId)));
+		for (Map.Entry<String, CompletableFuture<JsonNode>> confirmation : confirmations.entrySet()) {
+			String deviceId = confirmation.getKey();
+			try {
+				JsonNode deviceResult = confirmation.getValue().get();
+				if (!fieldControl.getRequestValue().equals(deviceResult.path(propertyItem.getFieldName()).asText())) {
+					logger.error(String.format("Can't control property %s with value %s same WebUI on device %s", propertyItem.getName(), fieldControl.getDisplayValue(), deviceId));
+					continue;
+				}
+			} catch (Exception e) {
+				logger.error(String.format("Can't control property %s with value %s on device %s", propertyItem.getName(), fieldControl.getDisplayValue(), deviceId), e);
+				continue;
 			}
-			nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-			updateValidRetrieveStatisticsTimestamp();
-			if (cachedAggregatedDeviceList.isEmpty()) {
-				return cachedAggregatedDeviceList;
+			AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				deviceControlTimestamps.put(deviceId, System.currentTimeMillis());
+				Map<String, String> stats = new HashMap<>(aggregatedDevice.getProperties());
+				List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>(aggregatedDevice.getControllableProperties());
+				updateLocalControlValue(stats, advancedControllableProperties, property, fieldControl.getValue());
+				updateListAggregatedDevice(deviceId, stats, advancedControllableProperties);
 			}
-			return cloneAndPopulateAggregatedDeviceList();
 		}
-		return Collections.emptyList();
+	}
+
+	/**
+	 * Retrieves the controlled display property from the name of a controllable property.
+	 *
+	 * @param property name of the controllable property, including its group
+	 * @return controlled display property
+	 */
+	private DisplayInfo getControlledProperty(String property) {
+		if (property.contains(MagicInfoConstant.HASH)) {
+			return getByName(property.split(MagicInfoConstant.HASH)[1]);
+		}
+		return getByName(property);
+	}
+
+	/**
+	 * Creates the field control setting a display property to the given value.
+	 *
+	 * @param propertyItem controlled display property
+	 * @param value value of the controllable property
+	 * @return field control, or null if the property is not controlled by a single display field
+	 */
+	private FieldControl createFieldControl(DisplayInfo propertyItem, String value) {
+		String requestValue;
+		switch (propertyItem) {
+			case VOLUME:
+			case LAMP_CONTROL:
+			case BRIGHTNESS:
+			case CONTRAST:
+			case SHARPNESS:
+			case COLOR:
+			case TINT:
+				value = checkValidInput(0, 100, value);
+				return new FieldControl(propertyItem, value, value, value);
+			case TEMPERATURE_CONTROL:
+				value = checkValidInput(75, 124, value);
+				return new FieldControl(propertyItem, value, value, value);
+			case COLOR_TONE:
+				requestValue = EnumTypeHandler.getValueByName(ColorToneEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case COLOR_TEMPERATURE:
+				requestValue = EnumTypeHandler.getValueByName(ColorTemperatureEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case PICTURE_SIZE:
+				requestValue = EnumTypeHandler.getValueByName(PictureSizeEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case DIGITAL_CLEAN_VIEW:
+				requestValue = EnumTypeHandler.getValueByName(DigitalCleanViewEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case FILM_MODE:
+				requestValue = EnumTypeHandler.getValueByName(FilmModeEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case HDMI_BLACK_LEVEL:
+				requestValue = EnumTypeHandler.getValueByName(HDMIBlackLevelEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case SOUND_MODE:
+				requestValue = EnumTypeHandler.getValueByName(SoundModeEnum.class, value);
+				return new FieldControl(propertyItem, requestValue, value, value);
+			case MUTE:
+			case PICTURE_ENHANCER:
+			case REMOTE_CONFIGURATION:
+			case MAX_POWER_SAVING:
+			case AUTO_POWER_ON:
+				return new FieldControl(propertyItem, value, value, getOnOffStatus(value));
+			case DISPLAY_PANEL:
+				requestValue = MagicInfoConstant.NUMBER_ONE.equals(value) ? MagicInfoConstant.ZERO : MagicInfoConstant.NUMBER_ONE;
+				return new FieldControl(propertyItem, requestValue, value, MagicInfoConstant.NUMBER_ONE.equals(value) ? MagicInfoConstant.OFF : MagicInfoConstant.ON);
+			default:
+				return null;
+		}
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * The devices are mapped and published by the {@link MagicInfoDataLoader}, this method serves the last published
+	 * list without locking.
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		return new ArrayList<>(retrievePublishedAggregatedDevices().values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The requested devices are looked up by id in the published devices, so the cost depends on the number of
+	 * requested devices only.
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+		Map<String, AggregatedDevice> publishedDevices = retrievePublishedAggregatedDevices();
+		List<AggregatedDevice> requestedDevices = new ArrayList<>();
+		for (String deviceId : new LinkedHashSet<>(list)) {
+			AggregatedDevice aggregatedDevice = publishedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				requestedDevices.add(aggregatedDevice);
+			}
+		}
+		return requestedDevices;
+	}
+
+	/**
+	 * Starts the {@link MagicInfoDataLoader} if needed, wakes it up and retrieves the last published devices.
+	 *
+	 * @return published devices by device id, empty if there are no devices to aggregate
+	 * @throws Exception if there is no valid API token
+	 */
+	private Map<String, AggregatedDevice> retrievePublishedAggregatedDevices() throws Exception {
+		if (aggregatedIdList.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		if (!checkValidApiToken()) {
+			throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
+		}
+		if (deviceDataLoader == null) {
+			deviceDataLoader = new MagicInfoDataLoader();
+			deviceDataLoader.start();
+		}
+		updateValidRetrieveStatisticsTimestamp();
+		deviceDataLoader.wakeUp();
+		return publishedAggregatedDevices.get();
 	}
 
 	/**
@@ -1130,8 +1925,9 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		if (logger.isDebugEnabled()) {
 			logger.debug("Internal init is called.");
 		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new MagicInfoDataLoader());
+		restoreWarmStartCache();
+		deviceDataLoader = new MagicInfoDataLoader();
+		deviceDataLoader.start();
 		super.internalInit();
 	}
 
@@ -1147,19 +1943,41 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 			deviceDataLoader.stop();
 			deviceDataLoader = null;
 		}
-
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+		List<String> deviceIds;
+		synchronized (aggregatedIdList) {
+			deviceIds = new ArrayList<>(aggregatedIdList);
 		}
+		saveWarmStartCache(deviceIds, lastDeviceDetailsRefreshTimestamp);
+		lastWarmStartCacheSaveTimestamp = 0;
+		lastDeviceDetailsRefreshTimestamp = 0;
 		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
 			localExtendedStatistics.getStatistics().clear();
 			localExtendedStatistics.getControllableProperties().clear();
 		}
-		nextDevicesCollectionIterationTimestamp = 0;
-		cachedAggregatedDeviceList.clear();
-		aggregatedDeviceList.clear();
+		lastDashboardRefreshTimestamp = 0;
+		lastDeviceListRefreshTimestamp = 0;
+		validAggregatorStatisticsTimestamp = 0;
+		aggregatorResponse = null;
+		cachedAggregatedDevices.clear();
+		cachedAggregatedDevices.drainChangedIds();
+		publishLock.lock();
+		try {
+			aggregatedDevices.clear();
+			mappedGeneration = -1;
+			publishedAggregatedDevices.set(Collections.emptyMap());
+		} finally {
+			publishLock.unlock();
+		}
+		deviceControlTimestamps.clear();
+		cachedGeneralInfo.clear();
+		cachedDisplayInfo.clear();
+		displayControlsSnapshots.clear();
+		deviceConnectionTimestamps.clear();
+		deviceListSignatures.clear();
+		generalInfoSignatures.clear();
+		deviceContentHashes.clear();
 		aggregatedIdList.clear();
+		tokenManager.clear();
 		super.internalDestroy();
 	}
 
@@ -1169,10 +1987,60 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	@Override
 	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.set(MagicInfoConstant.API_KEY, apiToken);
+		headers.set(MagicInfoConstant.API_KEY, tokenManager.peekToken());
 		return headers;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * The request is sent with a valid API token, and retried once with a new token if the token is rejected.
+	 */
+	@Override
+	protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+		return sendWithToken(() -> super.doGet(uri, responseClass));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is sent with a valid API token, and retried once with a new token if the token is rejected.
+	 */
+	@Override
+	protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) throws Exception {
+		return sendWithToken(() -> super.doPost(uri, data, responseClass));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is sent with a valid API token, and retried once with a new token if the token is rejected.
+	 */
+	@Override
+	protected <Request, Response> Response doPut(String uri, Request data, Class<Response> responseClass) throws Exception {
+		return sendWithToken(() -> super.doPut(uri, data, responseClass));
+	}
+
+	/**
+	 * Sends a request with a valid API token. If the server rejects the token, it is invalidated and the request is sent
+	 * once more with a new token, shared with the other requests rejected at the same time.
+	 *
+	 * @param request request to send
+	 * @param <T> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails, or the token can not be retrieved
+	 */
+	private <T> T sendWithToken(Callable<T> request) throws Exception {
+		String token = tokenManager.getToken();
+		try {
+			return request.call();
+		} catch (FailedLoginException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("API token was rejected, retrying the request with a new token", e);
+			}
+			tokenManager.invalidate(token);
+			tokenManager.getToken();
+			return request.call();
+		}
+	}
+
 	/**
 	 * Check API token validation
 	 * If the token expires, we send a request to get a new token
@@ -1183,32 +2051,60 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		if (StringUtils.isNullOrEmpty(getLogin()) || StringUtils.isNullOrEmpty(getPassword())) {
 			return false;
 		}
-		if (StringUtils.isNullOrEmpty(apiToken) || System.currentTimeMillis() - tokenExpire >= expiresIn) {
-			apiToken = getToken();
-		}
-		return StringUtils.isNotNullOrEmpty(apiToken);
+		return StringUtils.isNotNullOrEmpty(tokenManager.getToken());
 	}
 
 	/**
 	 * Retrieves a token using the provided username and password
+	 * The request is sent by {@link #tokenManager}, it does not go through {@link #sendWithToken(Callable)}.
 	 *
-	 * @return the token string
+	 * @return the token, with the lifetime reported by the server
 	 */
-	private String getToken() throws Exception {
+	private TokenManager.IssuedToken requestToken() throws Exception {
 		String token = MagicInfoConstant.EMPTY;
-		tokenExpire = System.currentTimeMillis();
+		long lifetime = 0;
 		Map<String, String> params = new HashMap<>();
 		params.put(MagicInfoConstant.USERNAME, this.getLogin());
 		params.put(MagicInfoConstant.PASSWORD, this.getPassword());
 		try {
-			JsonNode response = doPost(MagicInfoCommand.AUTH_COMMAND, params, JsonNode.class);
+			JsonNode response = super.doPost(MagicInfoCommand.AUTH_COMMAND, params, JsonNode.class);
 			if (response != null && response.has(MagicInfoConstant.TOKEN)) {
 				token = response.get(MagicInfoConstant.TOKEN).asText();
+				lifetime = getTokenLifetime(response, token);
 			}
 		} catch (Exception e) {
 			throw new FailedLoginException("Failed to retrieve an access token for account with from username and password. Please username id and password");
 		}
-		return token;
+		return new TokenManager.IssuedToken(token, lifetime);
+	}
+
+	/**
+	 * Retrieves the lifetime of a token reported by the server, either as expiresIn (in seconds) of the auth response,
+	 * or as the difference between the expiration and issued at claims of a JWT token.
+	 *
+	 * @param response auth response
+	 * @param token token of the response
+	 * @return lifetime in milliseconds, 0 if the server does not report it
+	 */
+	private long getTokenLifetime(JsonNode response, String token) {
+		if (response.hasNonNull(MagicInfoConstant.EXPIRES_IN) && response.get(MagicInfoConstant.EXPIRES_IN).asLong() > 0) {
+			return response.get(MagicInfoConstant.EXPIRES_IN).asLong() * 1000;
+		}
+		String[] parts = token.split("\\.");
+		if (parts.length != 3) {
+			return 0;
+		}
+		try {
+			JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+			if (claims.hasNonNull(MagicInfoConstant.TOKEN_EXPIRATION) && claims.hasNonNull(MagicInfoConstant.TOKEN_ISSUED_AT)) {
+				return Math.max(0, claims.get(MagicInfoConstant.TOKEN_EXPIRATION).asLong() - claims.get(MagicInfoConstant.TOKEN_ISSUED_AT).asLong()) * 1000;
+			}
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Unable to read the lifetime of the API token", e);
+			}
+		}
+		return 0;
 	}
 
 	/**
@@ -1217,39 +2113,183 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	private void retrieveSystemInfo() {
 		try {
 			aggregatorResponse = this.doGet(MagicInfoCommand.DEVICE_DASHBOARD, JsonNode.class);
+			lastDashboardRefreshTimestamp = System.currentTimeMillis();
 		} catch (Exception e) {
 			throw new ResourceNotReachableException("Error when get system information.", e);
 		}
 	}
 
 	/**
-	 * Filters devices based on the specified device type and source filters, and updates the aggregated ID list accordingly.
-	 * If either the device type or source filter is not null or empty, a filtering request is made to retrieve devices that match the criteria.
-	 * Otherwise, all devices are retrieved.
+	 * Filters devices based on the specified device type and source filters, and updates the aggregated ID list accordingly.
+	 * If either the device type or source filter is not null or empty, a filtering request is made to retrieve devices that match the criteria.
+	 * Otherwise, all devices are retrieved.
+	 * The aggregated ID list is only replaced once every page was retrieved, it is kept as is if a page fails.
+	 */
+	private void filterDevice() {
+		try {
+			List<String> deviceIds = new ArrayList<>();
+			if (StringUtils.isNotNullOrEmpty(filterDeviceType) || StringUtils.isNotNullOrEmpty(filterSource) || StringUtils.isNotNullOrEmpty(filterFunction)) {
+				ObjectNode body = createBodyFilteringRequest();
+				if (checkNoneValueInJsonArray(body.get(MagicInfoConstant.INPUT_FUNCTION)) && checkNoneValueInJsonArray(body.get(MagicInfoConstant.INPUT_SOURCE))) {
+					deviceIds = retrievePagedDeviceIds(startIndex -> {
+						ObjectNode pageBody = body.deepCopy();
+						pageBody.put(MagicInfoConstant.START_INDEX, startIndex);
+						return this.doPost(MagicInfoCommand.FILTERING_COMMAND, (JsonNode) pageBody, JsonNode.class);
+					}, filterPageSize);
+				}
+			} else {
+				deviceIds = retrievePagedDeviceIds(startIndex -> this.doGet(String.format(MagicInfoCommand.ALL_DEVICES_COMMAND, devicePageSize, startIndex), JsonNode.class),
+						devicePageSize);
+			}
+			synchronized (aggregatedIdList) {
+				aggregatedIdList.clear();
+				aggregatedIdList.addAll(deviceIds);
+			}
+			lastDeviceListRefreshTimestamp = System.currentTimeMillis();
+		} catch (Exception e) {
+			// the previous device list is kept, a failed page must not blank the devices until the next refresh
+			logger.error("Error when retrieve the device list, the previous device list is kept", e);
+		}
+	}
+
+	/**
+	 * Submits an API request of this instance to the {@link CollectionEngine}.
+	 *
+	 * @param request request to run
+	 * @param <T> type of the request result
+	 * @return future of the request result
+	 * @throws RejectedExecutionException if the aggregator is destroyed
+	 */
+	private <T> Future<T> submitRequest(Callable<T> request) {
+		MagicInfoDataLoader dataLoader = deviceDataLoader;
+		if (dataLoader == null) {
+			throw new RejectedExecutionException("The aggregator is not initialized.");
+		}
+		return dataLoader.submit(request);
+	}
+
+	/**
+	 * Submits an API request of a control of this instance to the {@link CollectionEngine}, ahead of the queued
+	 * collection requests, so control confirmations do not wait for a whole collection cycle.
+	 *
+	 * @param request request to run
+	 * @param <T> type of the request result
+	 * @return future of the request result
+	 * @throws RejectedExecutionException if the aggregator is destroyed
+	 */
+	private <T> Future<T> submitControlRequest(Callable<T> request) {
+		MagicInfoDataLoader dataLoader = deviceDataLoader;
+		if (dataLoader == null) {
+			throw new RejectedExecutionException("The aggregator is not initialized.");
+		}
+		return dataLoader.submitPriority(request);
+	}
+
+	/**
+	 * Submits a control of this instance to the {@link CollectionEngine}, so several controls run in parallel.
+	 *
+	 * @param control control to run
+	 * @param <T> type of the control result
+	 * @return future of the control result
+	 * @throws RejectedExecutionException if the aggregator is destroyed
+	 */
+	private <T> Future<T> submitControl(Callable<T> control) {
+		MagicInfoDataLoader dataLoader = deviceDataLoader;
+		if (dataLoader == null) {
+			throw new RejectedExecutionException("The aggregator is not initialized.");
+		}
+		return dataLoader.submitControl(control);
+	}
+
+	/**
+	 * Walks a paginated device list endpoint and collects the ids of every device on it.
+	 * The first page is requested on the calling thread to learn {@code totalCount}, the remaining pages are requested
+	 * in parallel on the {@link CollectionEngine}, with at most {@link #maxConcurrentRequests} pages in flight.
+	 * Each page response is reduced to its device ids as soon as it arrives, so only the ids (and not the response trees)
+	 * of the whole fleet are kept in memory. Pages are merged in page order and duplicated ids are dropped.
+	 * If the server does not report {@code totalCount}, pages are requested one after another until a short page is returned.
+	 *
+	 * @param pageRequest request sending a single page for the given 1-based start index
+	 * @param pageSize number of devices per page
+	 * @return ordered list of device ids, without duplicates
+	 * @throws Exception if any page can not be retrieved
+	 */
+	private List<String> retrievePagedDeviceIds(PageRequest pageRequest, int pageSize) throws Exception {
+		Set<String> deviceIds = new LinkedHashSet<>();
+		JsonNode firstPage = pageRequest.fetch(MagicInfoConstant.FIRST_START_INDEX);
+		int firstPageSize = extractDeviceIds(firstPage, deviceIds);
+		if (firstPage == null || !firstPage.has(MagicInfoConstant.TOTAL_COUNT)) {
+			int startIndex = MagicInfoConstant.FIRST_START_INDEX;
+			int receivedSize = firstPageSize;
+			while (receivedSize >= pageSize) {
+				startIndex += pageSize;
+				receivedSize = extractDeviceIds(pageRequest.fetch(startIndex), deviceIds);
+			}
+			return new ArrayList<>(deviceIds);
+		}
+		int totalCount = firstPage.get(MagicInfoConstant.TOTAL_COUNT).asInt();
+		Deque<Future<List<String>>> inFlightPages = new ArrayDeque<>();
+		int nextStartIndex = MagicInfoConstant.FIRST_START_INDEX + pageSize;
+		try {
+			while (nextStartIndex <= totalCount || !inFlightPages.isEmpty()) {
+				while (nextStartIndex <= totalCount && inFlightPages.size() < maxConcurrentRequests) {
+					final int pageStartIndex = nextStartIndex;
+					inFlightPages.add(submitRequest(() -> {
+						List<String> pageIds = new ArrayList<>();
+						extractDeviceIds(pageRequest.fetch(pageStartIndex), pageIds);
+						return pageIds;
+					}));
+					nextStartIndex += pageSize;
+				}
+				deviceIds.addAll(inFlightPages.poll().get());
+			}
+		} catch (ExecutionException e) {
+			inFlightPages.forEach(page -> page.cancel(true));
+			throw new ResourceNotReachableException("Error when retrieve device list page", e.getCause());
+		}
+		return new ArrayList<>(deviceIds);
+	}
+
+	/**
+	 * Extracts device ids from the items of a device list page.
+	 * The signature of every item is kept in {@link #deviceListSignatures}, so a change of the device entry (e.g. a new
+	 * name or ip address) can trigger a refresh of the general information of that device.
+	 *
+	 * @param page device list page response
+	 * @param deviceIds collection the device ids are added to
+	 * @return number of items on the page
+	 */
+	private int extractDeviceIds(JsonNode page, Collection<String> deviceIds) {
+		if (page == null || !page.has(MagicInfoConstant.ITEMS)) {
+			return 0;
+		}
+		JsonNode items = page.get(MagicInfoConstant.ITEMS);
+		for (JsonNode item : items) {
+			if (item.has(MagicInfoConstant.DEVICE_ID)) {
+				String id = item.get(MagicInfoConstant.DEVICE_ID).asText();
+				deviceIds.add(id);
+				deviceListSignatures.put(id, getGeneralInfoSignature(item));
+			}
+		}
+		return items.size();
+	}
+
+	/**
+	 * Computes the signature of a device list entry from the fields that change with the general information of the
+	 * device, including the power state and the last connection time, so a device going offline is collected again
+	 * with the next device list. The disk space, changing on its own, is left out, so it does not make every device
+	 * look changed.
 	 *
-	 * @throws Exception If an error occurs while filtering devices.
-	 */
-	private void filterDevice() throws Exception {
-		try {
-			JsonNode devicesResponse = null;
-			if (StringUtils.isNotNullOrEmpty(filterDeviceType) || StringUtils.isNotNullOrEmpty(filterSource) || StringUtils.isNotNullOrEmpty(filterFunction)) {
-				JsonNode body = createBodyFilteringRequest();
-				if (checkNoneValueInJsonArray(body.get(MagicInfoConstant.INPUT_FUNCTION)) && checkNoneValueInJsonArray(body.get(MagicInfoConstant.INPUT_SOURCE))) {
-					devicesResponse = this.doPost(MagicInfoCommand.FILTERING_COMMAND, body, JsonNode.class);
-				}
-			} else {
-				devicesResponse = this.doGet(MagicInfoCommand.ALL_DEVICES_COMMAND, JsonNode.class);
-			}
-			aggregatedIdList.clear();
-			if (devicesResponse != null && devicesResponse.has(MagicInfoConstant.ITEMS)) {
-				for (JsonNode item : devicesResponse.get(MagicInfoConstant.ITEMS)) {
-					aggregatedIdList.add(item.get(MagicInfoConstant.DEVICE_ID).asText());
-				}
-			}
-		} catch (Exception e) {
-			aggregatedIdList.clear();
-			logger.error(String.format("Error when get system information, %s", e));
+	 * @param item device list entry
+	 * @return signature of the entry
+	 */
+	private int getGeneralInfoSignature(JsonNode item) {
+		int signature = 1;
+		for (String field : MagicInfoConstant.GENERAL_INFO_SIGNATURE_FIELDS) {
+			JsonNode value = item.get(field);
+			signature = 31 * signature + (value != null ? value.hashCode() : 0);
 		}
+		return signature;
 	}
 
 	/**
@@ -1257,7 +2297,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 *
 	 * @return JSON ObjectNode containing filtering request information.
 	 */
-	private JsonNode createBodyFilteringRequest() {
+	private ObjectNode createBodyFilteringRequest() {
 		List<String> sourceValue = new ArrayList<>();
 		List<String> deviceTypeValue = new ArrayList<>();
 		List<String> functionValue = new ArrayList<>();
@@ -1277,7 +2317,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 					.collect(Collectors.toList());
 		}
 		ObjectNode body = objectMapper.createObjectNode();
-		body.put(MagicInfoConstant.PAGE_SIZE, MagicInfoConstant.PAGE_SIZE_DEFAULT_FILTER);
+		body.put(MagicInfoConstant.PAGE_SIZE, filterPageSize);
 		body.set(MagicInfoConstant.DEVICE_TYPE, objectMapper.valueToTree(deviceTypeValue));
 		body.set(MagicInfoConstant.INPUT_SOURCE, objectMapper.valueToTree(sourceValue));
 		body.set(MagicInfoConstant.INPUT_FUNCTION, objectMapper.valueToTree(functionValue));
@@ -1307,6 +2347,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 * @param statistics the map to be populated with system data
 	 */
 	private void populateSystemData(Map<String, String> statistics) {
+		JsonNode aggregatorResponse = this.aggregatorResponse;
 		for (SystemInfo item : SystemInfo.values()) {
 			if (aggregatorResponse != null && aggregatorResponse.has(MagicInfoConstant.ITEMS) && aggregatorResponse.get(MagicInfoConstant.ITEMS).has(MagicInfoConstant.STATUS) && aggregatorResponse.get(
 					MagicInfoConstant.ITEMS).get(MagicInfoConstant.STATUS).has(item.getValue())) {
@@ -1320,44 +2361,281 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	/**
 	 * populate detail aggregated device
 	 * add aggregated device into aggregated device list
+	 *
+	 * Device ids are split into chunks of {@link #deviceInfoChunkSize} which are requested in parallel on
+	 * the {@link CollectionEngine}. Every chunk is merged into {@link #cachedAggregatedDevices} on its own, so a chunk
+	 * that fails keeps the previously cached values of its devices instead of clearing the whole list.
+	 * General information and display information are refreshed on their own intervals, the information that is not
+	 * requested is taken from {@link #cachedGeneralInfo} and {@link #cachedDisplayInfo}.
+	 *
+	 * @param refreshAllGeneralInfo whether general information is requested for every device
+	 * @param refreshDisplayInfo whether display information is requested for every device
+	 */
+	private void populateDeviceDetails(boolean refreshAllGeneralInfo, boolean refreshDisplayInfo) {
+		long collectionTimestamp = System.currentTimeMillis();
+		List<String> deviceIds;
+		synchronized (aggregatedIdList) {
+			deviceIds = new ArrayList<>(aggregatedIdList);
+		}
+		List<Future<?>> chunks = new ArrayList<>();
+		for (int i = 0; i < deviceIds.size(); i += deviceInfoChunkSize) {
+			List<String> chunk = deviceIds.subList(i, Math.min(i + deviceInfoChunkSize, deviceIds.size()));
+			chunks.add(submitRequest(() -> {
+				populateDeviceDetails(chunk, refreshAllGeneralInfo, refreshDisplayInfo);
+				return null;
+			}));
+		}
+		for (Future<?> chunk : chunks) {
+			try {
+				chunk.get();
+			} catch (ExecutionException e) {
+				logger.error("Error while populate aggregated device", e.getCause());
+			} catch (InterruptedException e) {
+				chunks.forEach(item -> item.cancel(true));
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		Set<String> currentIds = new HashSet<>(deviceIds);
+		cachedAggregatedDevices.retainAll(currentIds);
+		cachedGeneralInfo.keySet().retainAll(currentIds);
+		cachedDisplayInfo.keySet().retainAll(currentIds);
+		displayControlsSnapshots.retainAll(currentIds);
+		displayControlsSnapshots.removeExpired(displayControlsSnapshotMaxAge);
+		deviceConnectionTimestamps.keySet().retainAll(currentIds);
+		deviceControlTimestamps.keySet().retainAll(currentIds);
+		deviceListSignatures.keySet().retainAll(currentIds);
+		generalInfoSignatures.keySet().retainAll(currentIds);
+		deviceContentHashes.keySet().retainAll(currentIds);
+		cloneAndPopulateAggregatedDeviceList(collectionTimestamp);
+		lastDeviceDetailsRefreshTimestamp = collectionTimestamp;
+		if (collectionTimestamp - lastWarmStartCacheSaveTimestamp >= MagicInfoConstant.WARM_START_CACHE_SAVE_INTERVAL) {
+			saveWarmStartCache(deviceIds, collectionTimestamp);
+		}
+	}
+
+	/**
+	 * Writes the raw information of the devices to the warm start cache file. Errors are logged only, the cache is
+	 * an optimization of the next start.
+	 *
+	 * @param deviceIds ids of the devices, in device list order
+	 * @param timestamp time in milliseconds the information was collected at
+	 */
+	private void saveWarmStartCache(List<String> deviceIds, long timestamp) {
+		if (warmStartCacheMaxAge <= 0 || deviceIds.isEmpty()) {
+			return;
+		}
+		lastWarmStartCacheSaveTimestamp = timestamp;
+		try {
+			createWarmStartCache().save(getWarmStartCacheIdentity(), deviceCodec, new WarmStartCache.Contents(timestamp, deviceIds, cachedGeneralInfo, cachedDisplayInfo));
+		} catch (Exception e) {
+			logger.warn("Unable to write the warm start cache", e);
+		}
+	}
+
+	/**
+	 * Loads the raw information of the devices from the warm start cache file, if it is recent enough, and publishes
+	 * the devices right away. They are refreshed by the {@link MagicInfoDataLoader} afterwards.
 	 */
-	private void populateDeviceDetails() {
+	private void restoreWarmStartCache() {
+		if (warmStartCacheMaxAge <= 0) {
+			return;
+		}
 		try {
+			WarmStartCache.Contents contents = createWarmStartCache().load(getWarmStartCacheIdentity(), warmStartCacheMaxAge, deviceCodec);
+			if (contents == null || contents.getDeviceIds().isEmpty()) {
+				return;
+			}
+			cachedGeneralInfo.putAll(contents.getGeneralInfo());
+			cachedDisplayInfo.putAll(contents.getDisplayInfo());
+			synchronized (aggregatedIdList) {
+				aggregatedIdList.clear();
+				aggregatedIdList.addAll(contents.getDeviceIds());
+			}
+			updateCachedDevices(contents.getDeviceIds());
+			cloneAndPopulateAggregatedDeviceList(contents.getTimestamp());
+			lastWarmStartCacheSaveTimestamp = contents.getTimestamp();
+			lastDeviceDetailsRefreshTimestamp = contents.getTimestamp();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restored %s devices from the warm start cache of %s", contents.getDeviceIds().size(), new Date(contents.getTimestamp())));
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to read the warm start cache", e);
+		}
+	}
+
+	/**
+	 * Creates the warm start cache of the current configuration. The file name carries the host, the port and a hash
+	 * of the {@link #getWarmStartCacheIdentity() identity}, so instances collecting other devices use other files.
+	 *
+	 * @return warm start cache
+	 */
+	private WarmStartCache createWarmStartCache() {
+		String name = String.format("%s-%s-%08x", getHost(), getPort(), getWarmStartCacheIdentity().hashCode());
+		String fileName = String.format(MagicInfoConstant.WARM_START_CACHE_FILE_FORMAT, name.replaceAll("[^A-Za-z0-9.-]", "_"));
+		return new WarmStartCache(Paths.get(warmStartCacheDirectory, fileName));
+	}
+
+	/**
+	 * Retrieves the configuration the cached devices depend on: server, account, device filters, paging and model
+	 * mapping. A warm start cache written with another configuration is not loaded.
+	 *
+	 * @return identity of the collected devices
+	 */
+	private String getWarmStartCacheIdentity() {
+		return String.format("%s:%s|%s|%s|%s|%s|%s|%s|%08x", getHost(), getPort(), getLogin(), filterDeviceType, filterSource, filterFunction, devicePageSize, filterPageSize,
+				deviceCodec.getPaths().hashCode());
+	}
+
+	/**
+	 * Retrieves general and display information for a chunk of devices and merges it into {@link #cachedAggregatedDevices}
+	 * General information is only requested for devices that have none cached yet, whose device list entry has changed since
+	 * it was last requested, or for every device of the chunk if refreshAllGeneralInfo is set. Display information is
+	 * requested for the chunk if refreshDisplayInfo is set, or if it is not cached yet for one of its devices.
+	 * Devices whose combined information is unchanged since the last cycle are not processed again.
+	 *
+	 * @param deviceIds ids of the devices in the chunk
+	 * @param refreshAllGeneralInfo whether general information is requested for every device of the chunk
+	 * @param refreshDisplayInfo whether display information is requested for the chunk
+	 * @throws Exception if the information can not be retrieved
+	 */
+	private void populateDeviceDetails(List<String> deviceIds, boolean refreshAllGeneralInfo, boolean refreshDisplayInfo) throws Exception {
+		List<String> generalInfoIds = refreshAllGeneralInfo ? deviceIds : deviceIds.stream().filter(this::isGeneralInfoOutdated).collect(Collectors.toList());
+		if (!generalInfoIds.isEmpty()) {
+			ObjectNode generalIdListParam = objectMapper.createObjectNode();
+			generalIdListParam.set(MagicInfoConstant.IDS, objectMapper.valueToTree(generalInfoIds));
+			DeviceInformationResponse generalInfoResponse = DeviceInformationResponse.read(deviceInformationFields, generalItem -> {
+				String id = getDeviceIdFromInformation(generalItem);
+				if (id != null) {
+					cachedGeneralInfo.put(id, deviceCodec.encode(generalItem));
+					Integer signature = deviceListSignatures.get(id);
+					if (signature != null) {
+						generalInfoSignatures.put(id, signature);
+					}
+				}
+			}, () -> this.doPost(MagicInfoCommand.GENERAL_INFO_COMMAND, (JsonNode) generalIdListParam, DeviceInformationResponse.class));
+			if (generalInfoResponse == null || !generalInfoResponse.isSuccessListPresent()) {
+				throw new ResourceNotReachableException(String.format("Invalid general information response for devices %s", generalInfoIds));
+			}
+		}
+
+		if (refreshDisplayInfo || !cachedDisplayInfo.keySet().containsAll(deviceIds)) {
+			long requestTimestamp = System.currentTimeMillis();
 			ObjectNode idListParam = objectMapper.createObjectNode();
-			idListParam.set(MagicInfoConstant.IDS, objectMapper.valueToTree(aggregatedIdList));
-			JsonNode generalInfoResponse = this.doPost(MagicInfoCommand.GENERAL_INFO_COMMAND, (JsonNode) idListParam, JsonNode.class);
-			JsonNode displayInfoResponse = this.doPost(MagicInfoCommand.DISPLAY_INFO_COMMAND, (JsonNode) idListParam, JsonNode.class);
+			idListParam.set(MagicInfoConstant.IDS, objectMapper.valueToTree(deviceIds));
+			DeviceInformationResponse displayInfoResponse = DeviceInformationResponse.read(deviceInformationFields, displayItem -> {
+				String id = getDeviceIdFromInformation(displayItem);
+				if (id != null) {
+					cachedDisplayInfo.put(id, deviceCodec.encode(displayItem));
+					displayControlsSnapshots.put(id, displayItem, requestTimestamp);
+				}
+			}, () -> this.doPost(MagicInfoCommand.DISPLAY_INFO_COMMAND, (JsonNode) idListParam, DeviceInformationResponse.class));
+			if (displayInfoResponse == null || !displayInfoResponse.isSuccessListPresent()) {
+				throw new ResourceNotReachableException(String.format("Invalid display information response for devices %s", deviceIds));
+			}
+		}
+
+		updateCachedDevices(deviceIds);
+	}
 
-			if (checkDeviceInformationResponse(displayInfoResponse) && checkDeviceInformationResponse(generalInfoResponse)) {
-				cachedAggregatedDeviceList.clear();
-				for (int i = 0; i < aggregatedIdList.size(); i++) {
-					JsonNode generalItem = generalInfoResponse.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(i);
-					JsonNode displayItem = displayInfoResponse.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(i);
-					String id = generalItem.get(MagicInfoConstant.GENERAL_CONF).get(MagicInfoConstant.DEVICE_ID).asText();
-					JsonNode node = objectMapper.createArrayNode().add(combineJsonNodes(generalItem, displayItem));
-					cachedAggregatedDeviceList.removeIf(item -> item.getDeviceId().equals(id));
-					cachedAggregatedDeviceList.addAll(aggregatedDeviceProcessor.extractDevices(node));
+	/**
+	 * Joins the cached general and display information of devices and stores the resulting raw devices in
+	 * {@link #cachedAggregatedDevices}. Devices whose combined information is unchanged are not processed again.
+	 *
+	 * @param deviceIds ids of the devices
+	 */
+	private void updateCachedDevices(List<String> deviceIds) {
+		for (String id : deviceIds) {
+			// the device id and name are mapped from the general information, display information alone is not processed
+			byte[] generalRecord = cachedGeneralInfo.get(id);
+			if (generalRecord == null) {
+				continue;
+			}
+			byte[] displayRecord = cachedDisplayInfo.get(id);
+			int contentHash = 31 * Arrays.hashCode(generalRecord) + Arrays.hashCode(displayRecord);
+			if (incrementalRefresh && cachedAggregatedDevices.contains(id) && Integer.valueOf(contentHash).equals(deviceContentHashes.get(id))) {
+				continue;
+			}
+			ObjectNode combinedNode = deviceCodec.decode(generalRecord);
+			if (displayRecord != null) {
+				combinedNode.setAll(deviceCodec.decode(displayRecord));
+			}
+			JsonNode node = objectMapper.createArrayNode().add(combinedNode);
+			for (AggregatedDevice rawDevice : aggregatedDeviceProcessor.extractDevices(node)) {
+				// raw devices are shared with the mapping, they are stored read only
+				if (rawDevice.getProperties() != null) {
+					rawDevice.setProperties(Collections.unmodifiableMap(rawDevice.getProperties()));
 				}
+				cachedAggregatedDevices.put(rawDevice);
 			}
-		} catch (Exception e) {
-			cachedAggregatedDeviceList.clear();
-			logger.error("Error while populate aggregated device", e);
+			deviceContentHashes.put(id, contentHash);
+		}
+	}
+
+	/**
+	 * Checks whether the general information of a device has to be requested again.
+	 *
+	 * @param deviceId id of the device
+	 * @return true if no general information is cached for the device, or its device list entry has changed since, or
+	 * it was powered or restarted since
+	 */
+	private boolean isGeneralInfoOutdated(String deviceId) {
+		if (!cachedGeneralInfo.containsKey(deviceId)) {
+			return true;
+		}
+		Integer signature = deviceListSignatures.get(deviceId);
+		return signature != null && !signature.equals(generalInfoSignatures.get(deviceId));
+	}
+
+	/**
+	 * Retrieves the device id of a general information or display information item.
+	 *
+	 * @param item general information or display information item
+	 * @return device id, or null if the item does not contain it
+	 */
+	private String getDeviceIdFromInformation(JsonNode item) {
+		if (item == null) {
+			return null;
+		}
+		if (item.has(MagicInfoConstant.GENERAL_CONF) && item.get(MagicInfoConstant.GENERAL_CONF).has(MagicInfoConstant.DEVICE_ID)) {
+			return item.get(MagicInfoConstant.GENERAL_CONF).get(MagicInfoConstant.DEVICE_ID).asText();
 		}
+		if (item.has(MagicInfoConstant.DEVICE_ID)) {
+			return item.get(MagicInfoConstant.DEVICE_ID).asText();
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves display control information for a specific device from {@link #displayControlsSnapshots}, if it was
+	 * collected during the last {@link #displayControlsSnapshotMaxAge}, or from the MagicInfo server otherwise.
+	 *
+	 * @param deviceId The unique identifier of the device for which to retrieve display control information.
+	 * @return A JSON object containing display control information for the specified device, that may be modified.
+	 * @throws IllegalArgumentException If there is an issue retrieving the display control information.
+	 */
+	private JsonNode getDisplayControlsSnapshot(String deviceId) {
+		JsonNode snapshot = displayControlsSnapshots.getFresh(deviceId, displayControlsSnapshotMaxAge);
+		return snapshot != null ? snapshot : getDisplayControlsInfo(deviceId);
 	}
 
 	/**
 	 * Retrieves display control information for a specific device.
+	 * The response is stored in {@link #displayControlsSnapshots}.
 	 *
 	 * @param deviceId The unique identifier of the device for which to retrieve display control information.
-	 * @return A JSON object containing display control information for the specified device.
+	 * @return A JSON object containing display control information for the specified device, that may be modified.
 	 * @throws IllegalArgumentException If there is an issue retrieving the display control information.
 	 */
 	private JsonNode getDisplayControlsInfo(String deviceId) {
 		try {
+			long requestTimestamp = System.currentTimeMillis();
 			ObjectNode idListParam = createArrayIdsNode(deviceId, MagicInfoConstant.IDS);
 			JsonNode displayInfoResponse = this.doPost(MagicInfoCommand.DISPLAY_INFO_COMMAND, (JsonNode) idListParam, JsonNode.class);
 			if (checkDeviceInformationResponse(displayInfoResponse)) {
-				return displayInfoResponse.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(0);
+				JsonNode displayItem = displayInfoResponse.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(0);
+				displayControlsSnapshots.put(deviceId, displayItem, requestTimestamp);
+				return displayItem.deepCopy();
 			}
 			throw new IllegalArgumentException("The response is error");
 		} catch (Exception e) {
@@ -1379,32 +2657,100 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Clone an aggregated device list that based on aggregatedDeviceList variable
-	 * populate monitoring and controlling for aggregated device
+	 * Clone an aggregated device list that based on cachedAggregatedDevices variable
+	 * populate monitoring and controlling for aggregated device, and publish it to {@link #publishedAggregatedDevices}
+	 * Only the devices whose raw data changed since the previous call are mapped again. Data of a device collected before
+	 * its last control is not mapped, the device stays pending until data collected after the control is published.
 	 *
-	 * @return List<AggregatedDevice> aggregated device list
+	 * @param collectionTimestamp time in milliseconds the published data started to be collected at
 	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-		if (!checkControl) {
-			synchronized (cachedAggregatedDeviceList) {
-				aggregatedDeviceList.clear();
-				for (AggregatedDevice aggregatedDevice : cachedAggregatedDeviceList) {
-					List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-					Map<String, String> dynamics = new HashMap<>();
-					Map<String, String> stats = new HashMap<>();
-					mapGeneralInformationProperties(aggregatedDevice.getProperties(), stats);
-					mapDisplayInformationProperties(aggregatedDevice.getProperties(), stats, advancedControllableProperties);
-					mapDynamicStatistic(aggregatedDevice.getProperties(), stats, dynamics);
-
-					aggregatedDevice.setProperties(stats);
-					aggregatedDevice.setControllableProperties(advancedControllableProperties);
-					aggregatedDevice.setDynamicStatistics(dynamics);
-					aggregatedDeviceList.add(aggregatedDevice);
+	private void cloneAndPopulateAggregatedDeviceList(long collectionTimestamp) {
+		publishLock.lock();
+		try {
+			long generation = cachedAggregatedDevices.getGeneration();
+			if (generation == mappedGeneration) {
+				return;
+			}
+			List<String> pendingIds = new ArrayList<>();
+			for (String deviceId : cachedAggregatedDevices.drainChangedIds()) {
+				AggregatedDevice cachedDevice = cachedAggregatedDevices.get(deviceId);
+				if (cachedDevice == null) {
+					aggregatedDevices.remove(deviceId);
+					continue;
+				}
+				Long controlTimestamp = deviceControlTimestamps.get(deviceId);
+				if (controlTimestamp != null && collectionTimestamp < controlTimestamp) {
+					pendingIds.add(deviceId);
+					continue;
 				}
+				List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+				Map<String, String> dynamics = new HashMap<>();
+				Map<String, String> stats = new HashMap<>();
+				mapGeneralInformationProperties(cachedDevice.getProperties(), stats);
+				mapDisplayInformationProperties(cachedDevice.getProperties(), stats, advancedControllableProperties);
+				mapDynamicStatistic(cachedDevice.getProperties(), stats, dynamics);
+
+				AggregatedDevice aggregatedDevice = createAggregatedDeviceView(cachedDevice);
+				aggregatedDevice.setProperties(stats);
+				aggregatedDevice.setControllableProperties(advancedControllableProperties);
+				aggregatedDevice.setDynamicStatistics(dynamics);
+				aggregatedDevices.put(aggregatedDevice);
 			}
+			mappedGeneration = generation;
+			// marked changed after the generation was recorded, so the next call maps them
+			pendingIds.forEach(cachedAggregatedDevices::markChanged);
+			publishedAggregatedDevices.set(indexAggregatedDevices());
+		} finally {
+			publishLock.unlock();
+		}
+	}
+
+	/**
+	 * Creates an immutable index of the current views of {@link #aggregatedDevices} by device id, in device order.
+	 *
+	 * @return views by device id
+	 */
+	private Map<String, AggregatedDevice> indexAggregatedDevices() {
+		Map<String, AggregatedDevice> index = new LinkedHashMap<>();
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices.snapshot()) {
+			index.put(aggregatedDevice.getDeviceId(), aggregatedDevice);
+		}
+		return Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Publishes the current views of {@link #aggregatedDevices} without mapping them again, e.g. after a control
+	 * replaced the view of a device
+	 */
+	private void publishAggregatedDevices() {
+		publishLock.lock();
+		try {
+			publishedAggregatedDevices.set(indexAggregatedDevices());
+		} finally {
+			publishLock.unlock();
 		}
-		checkControl = false;
-		return aggregatedDeviceList;
+	}
+
+	/**
+	 * Creates a new aggregated device with the identity of the given cached device, so the mapped properties can be set
+	 * without overwriting the raw properties kept in {@link #cachedAggregatedDevices}, or without modifying a view that
+	 * is published in {@link #aggregatedDevices} already
+	 *
+	 * @param cachedDevice device retrieved by {@link MagicInfoDataLoader}, or a published view
+	 * @return new aggregated device without properties
+	 */
+	private AggregatedDevice createAggregatedDeviceView(AggregatedDevice cachedDevice) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(cachedDevice.getDeviceId());
+		aggregatedDevice.setDeviceName(cachedDevice.getDeviceName());
+		aggregatedDevice.setDeviceMake(cachedDevice.getDeviceMake());
+		aggregatedDevice.setDeviceModel(cachedDevice.getDeviceModel());
+		aggregatedDevice.setDeviceOnline(cachedDevice.getDeviceOnline());
+		aggregatedDevice.setCategory(cachedDevice.getCategory());
+		aggregatedDevice.setType(cachedDevice.getType());
+		aggregatedDevice.setSerialNumber(cachedDevice.getSerialNumber());
+		aggregatedDevice.setTimestamp(cachedDevice.getTimestamp());
+		return aggregatedDevice;
 	}
 
 	/**
@@ -1429,8 +2775,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 					stats.put(propertyName, convertToMemoryFormat(value));
 					break;
 				case SOURCE:
-					List<String> availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(SourceEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(SourceEnum.class, value) : MagicInfoConstant.NONE);
+					stats.put(propertyName, EnumTypeHandler.getNameByValue(SourceEnum.class, value));
 					break;
 				default:
 					stats.put(propertyName, value);
@@ -1441,35 +2786,53 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 
 	/**
 	 * Maps display information properties from a mapping statistic to a target statistics map.
-	 * This method processes specific properties from the provided localCachedStatistic and updates the stats map accordingly.
+	 * This method runs the compiled {@link #displayMappingPlan} on the provided localCachedStatistic and updates the stats map accordingly.
 	 *
 	 * @param stats The target statistics map where the properties will be mapped.
 	 * @param advancedControllableProperties A list to collect advanced controllable properties.
 	 */
 	private void mapDisplayInformationProperties(Map<String, String> mappingStatistic, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String value;
-		String propertyName;
-		int status;
-		for (DisplayInfo item : values()) {
-			propertyName = item.getGroup().concat(item.getName());
-			value = getDefaultValueForNullData(mappingStatistic.get(item.getName()));
+		DisplayInfo[] items = DisplayInfo.values();
+		for (int i = 0; i < items.length; i++) {
+			displayMappingPlan[i].map(getDefaultValueForNullData(mappingStatistic.get(items[i].getName())), mappingStatistic, stats, advancedControllableProperties);
+		}
+	}
+
+	/**
+	 * Compiles the mapping of every display information property: the property names, dropdown options and value
+	 * validators are resolved here once, instead of for every device on every mapping.
+	 *
+	 * @return mapping of every display information property, indexed by {@link DisplayInfo#ordinal()}
+	 */
+	private DisplayPropertyMapping[] compileDisplayMappingPlan() {
+		DisplayInfo[] items = DisplayInfo.values();
+		DisplayPropertyMapping[] plan = new DisplayPropertyMapping[items.length];
+		String[] hours = createArrayNumber(0, 23);
+		String[] minutes = createArrayNumber(0, 59);
+		for (DisplayInfo item : items) {
+			String propertyName = item.getGroup().concat(item.getName());
+			DisplayPropertyMapping mapping;
 			switch (item) {
 				case RESTART:
-					addAdvanceControlProperties(advancedControllableProperties, stats, createButton(propertyName, MagicInfoConstant.RESTART, MagicInfoConstant.RESTARTING, MagicInfoConstant.GRACE_PERIOD),
-							MagicInfoConstant.NONE);
+					mapping = (value, mappingStatistic, stats, controls) -> addNewAdvanceControlProperty(controls, stats,
+							createButton(propertyName, MagicInfoConstant.RESTART, MagicInfoConstant.RESTARTING, MagicInfoConstant.GRACE_PERIOD), MagicInfoConstant.NONE);
 					break;
 				case POWER:
-					addAdvanceControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, MagicInfoConstant.TRUE.equals(value) ? 1 : 0, MagicInfoConstant.OFF, MagicInfoConstant.ON),
+					mapping = (value, mappingStatistic, stats, controls) -> addNewAdvanceControlProperty(controls, stats,
+							createSwitch(propertyName, MagicInfoConstant.TRUE.equals(value) ? 1 : 0, MagicInfoConstant.OFF, MagicInfoConstant.ON),
 							MagicInfoConstant.TRUE.equals(value) ? MagicInfoConstant.NUMBER_ONE : MagicInfoConstant.ZERO);
 					break;
 				case RESET_SOUND:
 				case RESET_PICTURE:
-					addAdvanceControlProperties(advancedControllableProperties, stats, createButton(propertyName, MagicInfoConstant.RESET, MagicInfoConstant.RESETTING, MagicInfoConstant.GRACE_PERIOD),
-							MagicInfoConstant.NONE);
+					mapping = (value, mappingStatistic, stats, controls) -> addNewAdvanceControlProperty(controls, stats,
+							createButton(propertyName, MagicInfoConstant.RESET, MagicInfoConstant.RESETTING, MagicInfoConstant.GRACE_PERIOD), MagicInfoConstant.NONE);
 					break;
 				case DISPLAY_PANEL:
-					value = MagicInfoConstant.NUMBER_ONE.equals(value) ? MagicInfoConstant.ZERO : MagicInfoConstant.NUMBER_ONE;
-					addAdvanceControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, Integer.parseInt(value), MagicInfoConstant.OFF, MagicInfoConstant.ON), value);
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						boolean panelOn = !MagicInfoConstant.NUMBER_ONE.equals(value);
+						addNewAdvanceControlProperty(controls, stats, createSwitch(propertyName, panelOn ? 1 : 0, MagicInfoConstant.OFF, MagicInfoConstant.ON),
+								panelOn ? MagicInfoConstant.NUMBER_ONE : MagicInfoConstant.ZERO);
+					};
 					break;
 				case VOLUME:
 				case TEMPERATURE_CONTROL:
@@ -1482,32 +2845,33 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 				case PIXEL_SHIFT_VERTICAL:
 				case PIXEL_SHIFT_HORIZONTAL:
 				case PIXEL_SHIFT_TIME:
-					if (!MagicInfoConstant.NONE.equals(value)) {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createNumeric(propertyName, value), value);
-					} else {
-						stats.put(propertyName, MagicInfoConstant.NONE);
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (!MagicInfoConstant.NONE.equals(value)) {
+							addNewAdvanceControlProperty(controls, stats, createNumeric(propertyName, value), value);
+						} else {
+							stats.put(propertyName, MagicInfoConstant.NONE);
+						}
+					};
 					break;
 				case MIN_VALUE:
 				case MAX_VALUE:
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createNumeric(propertyName, value), value);
-					} else {
-						stats.put(propertyName, value);
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
+							addNewAdvanceControlProperty(controls, stats, createNumeric(propertyName, value), value);
+						} else {
+							stats.put(propertyName, value);
+						}
+					};
 					break;
 				case WEB_BROWSER_HOME_PAGE:
-					status = getSwitchStatus(value);
-					if (status == -1) {
-						stats.put(propertyName, MagicInfoConstant.NONE);
-					} else {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, status, MagicInfoConstant.SAMSUNG_DISPLAY, MagicInfoConstant.CUSTOM), value);
-					}
+					mapping = createSwitchMapping(propertyName, MagicInfoConstant.SAMSUNG_DISPLAY, MagicInfoConstant.CUSTOM);
 					break;
 				case WEB_BROWSER_PAGE_URL:
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.WEB_BROWSER_HOME_PAGE))) {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createText(propertyName, value), value);
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.WEB_BROWSER_HOME_PAGE))) {
+							addNewAdvanceControlProperty(controls, stats, createText(propertyName, value), value);
+						}
+					};
 					break;
 				case MUTE:
 				case MAX_POWER_SAVING:
@@ -1516,166 +2880,198 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 				case REMOTE_CONFIGURATION:
 				case SCREEN_LAMP_SCHEDULE:
 				case PIXEL_SHIFT:
-					status = getSwitchStatus(value);
-					if (status == -1) {
-						stats.put(propertyName, MagicInfoConstant.NONE);
-					} else {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, status, MagicInfoConstant.OFF, MagicInfoConstant.ON), value);
-					}
+					mapping = createSwitchMapping(propertyName, MagicInfoConstant.OFF, MagicInfoConstant.ON);
 					break;
 				case WEB_BROWSER_INTERVAL:
-					addAdvanceControlProperties(advancedControllableProperties, stats,
-							createDropdown(propertyName, EnumTypeHandler.getEnumNames(WebBrowserIntervalEnum.class), EnumTypeHandler.getNameByValue(WebBrowserIntervalEnum.class, value)), EnumTypeHandler.getNameByValue(WebBrowserIntervalEnum.class, value));
+					mapping = createDropdownMapping(propertyName, WebBrowserIntervalEnum.class, false);
 					break;
 				case WEB_BROWSER_ZOOM:
-					addAdvanceControlProperties(advancedControllableProperties, stats,
-							createDropdown(propertyName, EnumTypeHandler.getEnumNames(WebBrowserZoomEnum.class), EnumTypeHandler.getNameByValue(WebBrowserZoomEnum.class, value)), EnumTypeHandler.getNameByValue(WebBrowserZoomEnum.class, value));
+					mapping = createDropdownMapping(propertyName, WebBrowserZoomEnum.class, false);
 					break;
 				case COLOR_TONE:
-					addAdvanceControlProperties(advancedControllableProperties, stats,
-							createDropdown(propertyName, EnumTypeHandler.getEnumNames(ColorToneEnum.class), EnumTypeHandler.getNameByValue(ColorToneEnum.class, value)), EnumTypeHandler.getNameByValue(ColorToneEnum.class, value));
+					mapping = createDropdownMapping(propertyName, ColorToneEnum.class, false);
+					break;
+				case SOUND_MODE:
+					mapping = createDropdownMapping(propertyName, SoundModeEnum.class, true);
+					break;
+				case TIMER:
+					mapping = createDropdownMapping(propertyName, TimerEnum.class, true);
 					break;
 				case COLOR_TEMPERATURE:
-					List<String> availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(ColorTemperatureEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(ColorTemperatureEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = createEnumNameMapping(propertyName, ColorTemperatureEnum.class);
 					break;
 				case PICTURE_SIZE:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(PictureSizeEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(PictureSizeEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = createEnumNameMapping(propertyName, PictureSizeEnum.class);
 					break;
 				case DIGITAL_CLEAN_VIEW:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(DigitalCleanViewEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(DigitalCleanViewEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = createEnumNameMapping(propertyName, DigitalCleanViewEnum.class);
 					break;
 				case FILM_MODE:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(FilmModeEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(FilmModeEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = createEnumNameMapping(propertyName, FilmModeEnum.class);
 					break;
 				case HDMI_BLACK_LEVEL:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(HDMIBlackLevelEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(HDMIBlackLevelEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = createEnumNameMapping(propertyName, HDMIBlackLevelEnum.class);
 					break;
-				case SOUND_MODE:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(SoundModeEnum.class)).collect(Collectors.toList());
-					if (availableValues.contains(value)) {
-						addAdvanceControlProperties(advancedControllableProperties, stats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(SoundModeEnum.class), EnumTypeHandler.getNameByValue(SoundModeEnum.class, value)), EnumTypeHandler.getNameByValue(SoundModeEnum.class, value));
-					} else {
-						stats.put(propertyName, MagicInfoConstant.NONE);
-					}
+				case IMMEDIATE_DISPLAY:
+					mapping = createEnumNameMapping(propertyName, ImmediateDisplayEnum.class);
 					break;
 				case AUTO_SOURCE_SWITCHING:
-					status = 1;
-					if (MagicInfoConstant.ZERO.equals(value)) {
-						status = 0;
-					}
-					addAdvanceControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, status, MagicInfoConstant.OFF, MagicInfoConstant.ON), value);
+					mapping = (value, mappingStatistic, stats, controls) -> addNewAdvanceControlProperty(controls, stats,
+							createSwitch(propertyName, MagicInfoConstant.ZERO.equals(value) ? 0 : 1, MagicInfoConstant.OFF, MagicInfoConstant.ON), value);
 					break;
 				case RESTORE_PRIMARY_SOURCE:
-					if (!MagicInfoConstant.ZERO.equals(mappingStatistic.get(MagicInfoConstant.AUTO_SOURCE_SWITCHING))) {
-						stats.put(propertyName, MagicInfoConstant.ZERO.equals(value) ? MagicInfoConstant.OFF : MagicInfoConstant.ON);
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (!MagicInfoConstant.ZERO.equals(mappingStatistic.get(MagicInfoConstant.AUTO_SOURCE_SWITCHING))) {
+							stats.put(propertyName, MagicInfoConstant.ZERO.equals(value) ? MagicInfoConstant.OFF : MagicInfoConstant.ON);
+						}
+					};
 					break;
 				case PRIMARY_SOURCE:
 				case SECONDARY_SOURCE:
-					if (!MagicInfoConstant.ZERO.equals(mappingStatistic.get(MagicInfoConstant.AUTO_SOURCE_SWITCHING))) {
-						stats.put(propertyName, EnumTypeHandler.getNameByValue(SourceEnum.class, value));
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (!MagicInfoConstant.ZERO.equals(mappingStatistic.get(MagicInfoConstant.AUTO_SOURCE_SWITCHING))) {
+							stats.put(propertyName, EnumTypeHandler.getNameByValue(SourceEnum.class, value));
+						}
+					};
 					break;
 				case MAX_TIME_HOUR:
 				case MIN_TIME_HOUR:
-					String time;
-					value = mappingStatistic.get(MagicInfoConstant.MAX_TIME);
-					if (MIN_TIME_HOUR.getName().equals(item.getName())) {
-						value = mappingStatistic.get(MagicInfoConstant.MIN_TIME);
-					}
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
-						time = convert12HourTo24Hour(value);
-						if (!MagicInfoConstant.NONE.equals(time)) {
-							String hour = time.split(MagicInfoConstant.COLON)[0];
-							addAdvanceControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, createArrayNumber(0, 23), hour), hour);
+					String hourField = item == MIN_TIME_HOUR ? MagicInfoConstant.MIN_TIME : MagicInfoConstant.MAX_TIME;
+					String timeName = propertyName.replace("(hour)", MagicInfoConstant.EMPTY);
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						String time = mappingStatistic.get(hourField);
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
+							mapTimePart(propertyName, convert12HourTo24Hour(time), 0, hours, stats, controls);
 						} else {
-							stats.put(propertyName, MagicInfoConstant.NONE);
+							stats.put(timeName, time);
 						}
-					} else {
-						stats.put(propertyName.replace("(hour)", MagicInfoConstant.EMPTY), value);
-					}
+					};
 					break;
 				case MAX_TIME_MINUTE:
 				case MIN_TIME_MINUTE:
-					value = mappingStatistic.get(MagicInfoConstant.MAX_TIME);
-					if (MIN_TIME_MINUTE.getName().equals(item.getName())) {
-						value = mappingStatistic.get(MagicInfoConstant.MIN_TIME);
-					}
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
-						time = convert12HourTo24Hour(value);
-						if (!MagicInfoConstant.NONE.equals(time)) {
-							String minute = time.split(MagicInfoConstant.COLON)[1];
-							addAdvanceControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, createArrayNumber(0, 59), minute), minute);
-						} else {
-							stats.put(propertyName, MagicInfoConstant.NONE);
+					String minuteField = item == MIN_TIME_MINUTE ? MagicInfoConstant.MIN_TIME : MagicInfoConstant.MAX_TIME;
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(SCREEN_LAMP_SCHEDULE.getName()))) {
+							mapTimePart(propertyName, convert12HourTo24Hour(mappingStatistic.get(minuteField)), 1, minutes, stats, controls);
 						}
-					}
+					};
 					break;
 				case TIMER_END_TIME_HOUR:
 				case TIMER_START_TIME_HOUR:
-					if (MagicInfoConstant.NUMBER_TWO.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						time = convert12HourTo24Hour(value);
-						if (!MagicInfoConstant.NONE.equals(time)) {
-							String hour = time.split(MagicInfoConstant.COLON)[0];
-							addAdvanceControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, createArrayNumber(0, 23), hour), hour);
-						} else {
-							stats.put(propertyName, MagicInfoConstant.NONE);
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_TWO.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
+							mapTimePart(propertyName, convert12HourTo24Hour(value), 0, hours, stats, controls);
 						}
-					}
+					};
 					break;
 				case TIMER_START_TIME_MIN:
 				case TIMER_END_TIME_MIN:
-					if (MagicInfoConstant.NUMBER_TWO.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						time = convert12HourTo24Hour(value);
-						if (!MagicInfoConstant.NONE.equals(time)) {
-							String minute = time.split(MagicInfoConstant.COLON)[1];
-							addAdvanceControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, createArrayNumber(0, 59), minute), minute);
-						} else {
-							stats.put(propertyName, MagicInfoConstant.NONE);
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_TWO.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
+							mapTimePart(propertyName, convert12HourTo24Hour(value), 1, minutes, stats, controls);
 						}
-					}
-					break;
-				case TIMER:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(TimerEnum.class)).collect(Collectors.toList());
-					if (availableValues.contains(value)) {
-						addAdvanceControlProperties(advancedControllableProperties, stats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(TimerEnum.class), EnumTypeHandler.getNameByValue(TimerEnum.class, value)), EnumTypeHandler.getNameByValue(TimerEnum.class, value));
-					} else {
-						stats.put(propertyName, MagicInfoConstant.NONE);
-					}
+					};
 					break;
 				case TIMER_MODE:
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						stats.put(propertyName, EnumTypeHandler.getNameByValue(RepeatModeEnum.class, value));
-					} else if (MagicInfoConstant.NUMBER_TWO.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						stats.put(propertyName, EnumTypeHandler.getNameByValue(IntervalModeEnum.class, value));
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						String timer = mappingStatistic.get(MagicInfoConstant.TIMER);
+						if (MagicInfoConstant.NUMBER_ONE.equals(timer)) {
+							stats.put(propertyName, EnumTypeHandler.getNameByValue(RepeatModeEnum.class, value));
+						} else if (MagicInfoConstant.NUMBER_TWO.equals(timer)) {
+							stats.put(propertyName, EnumTypeHandler.getNameByValue(IntervalModeEnum.class, value));
+						}
+					};
 					break;
 				case TIMER_PERIOD:
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createNumeric(propertyName, value), value);
-					}
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
+							addNewAdvanceControlProperty(controls, stats, createNumeric(propertyName, value), value);
+						}
+					};
 					break;
 				case TIMER_TIME:
-					if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
-						addAdvanceControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, MagicInfoConstant.TIMER_TIME_VALUES, value), value);
-					}
-					break;
-				case IMMEDIATE_DISPLAY:
-					availableValues = Arrays.stream(EnumTypeHandler.getEnumValues(ImmediateDisplayEnum.class)).collect(Collectors.toList());
-					stats.put(propertyName, availableValues.contains(value) ? EnumTypeHandler.getNameByValue(ImmediateDisplayEnum.class, value) : MagicInfoConstant.NONE);
+					mapping = (value, mappingStatistic, stats, controls) -> {
+						if (MagicInfoConstant.NUMBER_ONE.equals(mappingStatistic.get(MagicInfoConstant.TIMER))) {
+							addNewAdvanceControlProperty(controls, stats, createDropdown(propertyName, MagicInfoConstant.TIMER_TIME_VALUES, value), value);
+						}
+					};
 					break;
 				default:
-					stats.put(propertyName, value);
+					mapping = (value, mappingStatistic, stats, controls) -> stats.put(propertyName, value);
 					break;
 			}
+			plan[item.ordinal()] = mapping;
+		}
+		return plan;
+	}
+
+	/**
+	 * Creates the mapping of a switch property, whose raw value is "1" or "0".
+	 *
+	 * @param propertyName name of the property
+	 * @param labelOff label of the switch when it is off
+	 * @param labelOn label of the switch when it is on
+	 * @return mapping of the property
+	 */
+	private DisplayPropertyMapping createSwitchMapping(String propertyName, String labelOff, String labelOn) {
+		return (value, mappingStatistic, stats, controls) -> {
+			int status = getSwitchStatus(value);
+			if (status == -1) {
+				stats.put(propertyName, MagicInfoConstant.NONE);
+			} else {
+				addNewAdvanceControlProperty(controls, stats, createSwitch(propertyName, status, labelOff, labelOn), value);
+			}
+		};
+	}
+
+	/**
+	 * Creates the mapping of a dropdown property whose options are the names of an enum.
+	 *
+	 * @param propertyName name of the property
+	 * @param enumType enum of the options
+	 * @param validated whether a value that is not in the enum is shown as {@link MagicInfoConstant#NONE} without a control
+	 * @return mapping of the property
+	 */
+	private <T extends Enum<T> & NameValueEnum> DisplayPropertyMapping createDropdownMapping(String propertyName, Class<T> enumType, boolean validated) {
+		String[] options = EnumTypeHandler.getEnumNames(enumType);
+		return (value, mappingStatistic, stats, controls) -> {
+			if (validated && !EnumTypeHandler.containsValue(enumType, value)) {
+				stats.put(propertyName, MagicInfoConstant.NONE);
+				return;
+			}
+			String name = EnumTypeHandler.getNameByValue(enumType, value);
+			addNewAdvanceControlProperty(controls, stats, createDropdown(propertyName, options, name), name);
+		};
+	}
+
+	/**
+	 * Creates the mapping of a monitored property whose value is shown as the name of an enum constant.
+	 *
+	 * @param propertyName name of the property
+	 * @param enumType enum of the values
+	 * @return mapping of the property
+	 */
+	private <T extends Enum<T> & NameValueEnum> DisplayPropertyMapping createEnumNameMapping(String propertyName, Class<T> enumType) {
+		return (value, mappingStatistic, stats, controls) -> stats.put(propertyName, EnumTypeHandler.getNameByValue(enumType, value));
+	}
+
+	/**
+	 * Maps the hour or the minute of a 24-hour formatted time to a dropdown.
+	 *
+	 * @param propertyName name of the property
+	 * @param time time in 24-hour format, or {@link MagicInfoConstant#NONE}
+	 * @param part 0 for the hour, 1 for the minute
+	 * @param options options of the dropdown
+	 * @param stats mapped statistics of the device
+	 * @param controls controllable properties of the device
+	 */
+	private void mapTimePart(String propertyName, String time, int part, String[] options, Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		if (MagicInfoConstant.NONE.equals(time)) {
+			stats.put(propertyName, MagicInfoConstant.NONE);
+			return;
 		}
+		String value = time.split(MagicInfoConstant.COLON)[part];
+		addNewAdvanceControlProperty(controls, stats, createDropdown(propertyName, options, value), value);
 	}
 
 	/**
@@ -1790,24 +3186,33 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void updateLocalControlValue(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String name, String value) {
 		stats.put(name, value);
-		advancedControllableProperties.stream().filter(advancedControllableProperty ->
-				name.equals(advancedControllableProperty.getName())).findFirst().ifPresent(advancedControllableProperty ->
-				advancedControllableProperty.setValue(value));
+		for (int i = 0; i < advancedControllableProperties.size(); i++) {
+			AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(i);
+			if (name.equals(advancedControllableProperty.getName())) {
+				// the property may belong to a published view, it is replaced rather than modified
+				advancedControllableProperties.set(i, new AdvancedControllableProperty(name, new Date(), advancedControllableProperty.getType(), value));
+				break;
+			}
+		}
 	}
 
 	/**
 	 * Updates the properties and controllable properties of an aggregated device in the list.
+	 * The published view of the device is replaced by a new one, so readers never see a partly updated device.
 	 *
 	 * @param deviceId The unique identifier of the device to update.
 	 * @param stats The updated device properties.
 	 * @param advancedControllableProperties The updated list of advanced controllable properties.
 	 */
 	private void updateListAggregatedDevice(String deviceId, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		Optional<AggregatedDevice> device = aggregatedDeviceList.stream().filter(aggregatedDevice ->
-				deviceId.equals(aggregatedDevice.getDeviceId())).findFirst();
-		if (device.isPresent()) {
-			device.get().setControllableProperties(advancedControllableProperties);
-			device.get().setProperties(stats);
+		AggregatedDevice device = aggregatedDevices.get(deviceId);
+		if (device != null) {
+			AggregatedDevice updatedDevice = createAggregatedDeviceView(device);
+			updatedDevice.setProperties(stats);
+			updatedDevice.setControllableProperties(advancedControllableProperties);
+			updatedDevice.setDynamicStatistics(device.getDynamicStatistics());
+			aggregatedDevices.put(updatedDevice);
+			publishAggregatedDevices();
 		}
 	}
 
@@ -1825,15 +3230,27 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 
 	/**
 	 * Checks the connection status of a device using its unique identifier.
+	 * A successful check is reused for {@link #connectionCheckInterval}, so consecutive controls of the same device
+	 * do not request the connection status again.
 	 *
 	 * @param id The unique identifier of the device to check.
 	 */
 	private boolean checkConnectionDevice(String id) {
+		Long lastConnectionTimestamp = deviceConnectionTimestamps.get(id);
+		if (lastConnectionTimestamp != null && System.currentTimeMillis() - lastConnectionTimestamp < connectionCheckInterval) {
+			return true;
+		}
 		try {
 			ObjectNode idListParam = createArrayIdsNode(id, MagicInfoConstant.IDS);
 			JsonNode response = this.doPost(MagicInfoCommand.CHECK_CONNECTION_COMMAND, (JsonNode) idListParam, JsonNode.class);
 			if (response != null && response.has(MagicInfoConstant.STATUS)) {
-				return response.get(MagicInfoConstant.STATUS).asText().equals(MagicInfoConstant.SUCCESS);
+				boolean connected = response.get(MagicInfoConstant.STATUS).asText().equals(MagicInfoConstant.SUCCESS);
+				if (connected) {
+					deviceConnectionTimestamps.put(id, System.currentTimeMillis());
+				} else {
+					deviceConnectionTimestamps.remove(id);
+				}
+				return connected;
 			}
 		} catch (Exception e) {
 			logger.error(String.format("Error when send request to check connection device, %s", e));
@@ -1852,25 +3269,12 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private boolean checkDataAfterUpdate(String id, String requestId, String group, String field, String value) {
 		try {
-			ObjectNode body = createArrayIdsNode(id, MagicInfoConstant.DEVICE_IDS);
-			body.put(MagicInfoConstant.REQUEST_ID, requestId);
-			boolean status = false;
-			JsonNode response = null;
-			while (!status) {
-				response = this.doPost(MagicInfoCommand.UPDATE_DISPLAY_COMMAND, (JsonNode) body, JsonNode.class);
-				if (response != null && response.has(MagicInfoConstant.STATUS) && MagicInfoConstant.SUCCESS.equals(response.get(MagicInfoConstant.STATUS).asText())) {
-					status = true;
-				} else {
-					//sleep 1000 to void send many request to the device
-					Thread.sleep(1000);
-				}
-			}
-			if (response.has(MagicInfoConstant.ITEMS) && response.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).size() > 0) {
-				if (StringUtils.isNotNullOrEmpty(group)) {
-					return response.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(0).get(group).get(field).asText().equals(value);
-				}
-				return response.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST).get(0).get(field).asText().equals(value);
+			JsonNode deviceResult = awaitConfirmation(confirmUpdate(id, requestId));
+			// a confirmation without display information of the device does not prove the value
+			if (StringUtils.isNotNullOrEmpty(group)) {
+				return deviceResult.path(group).path(field).asText().equals(value);
 			}
+			return deviceResult.path(field).asText().equals(value);
 		} catch (Exception e) {
 			logger.error(String.format("Error when send request to check data after update, %s", e));
 		}
@@ -1891,6 +3295,8 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 			ObjectNode body = createArrayIdsNode(id, MagicInfoConstant.DEVICE_IDS);
 			body.put(MagicInfoConstant.MENU, MagicInfoConstant.RESTART_VALUE);
 			body.put(MagicInfoConstant.VALUE, MagicInfoConstant.RESTART_VALUE);
+			// the device is disconnected while restarting
+			deviceConnectionTimestamps.remove(id);
 			JsonNode response = this.doPut(MagicInfoCommand.QUICK_CONTROL_COMMAND, (JsonNode) body, JsonNode.class);
 			if (!(response != null && response.has(MagicInfoConstant.STATUS) && MagicInfoConstant.SUCCESS.equals(response.get(MagicInfoConstant.STATUS).asText()))) {
 				throw new IllegalArgumentException("The device has responded with an error.");
@@ -1915,6 +3321,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 			ObjectNode body = createArrayIdsNode(id, MagicInfoConstant.DEVICE_IDS);
 			body.put(MagicInfoConstant.MENU, MagicInfoConstant.POWER);
 			body.put(MagicInfoConstant.VALUE, value);
+			deviceConnectionTimestamps.remove(id);
 			JsonNode response = this.doPut(MagicInfoCommand.QUICK_CONTROL_COMMAND, (JsonNode) body, JsonNode.class);
 			if (!(response != null && response.has(MagicInfoConstant.STATUS) && MagicInfoConstant.SUCCESS.equals(response.get(MagicInfoConstant.STATUS).asText()))) {
 				throw new IllegalArgumentException("The device has responded with an error.");
@@ -1941,19 +3348,7 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 			body.put(property.getFieldName(), value);
 			String requestId = getRequestIdByUpdateCommand(body);
 
-			body.remove(property.getFieldName());
-			body.put(MagicInfoConstant.REQUEST_ID, requestId);
-			boolean status = false;
-			JsonNode responseData;
-			while (!status) {
-				responseData = this.doPost(MagicInfoCommand.UPDATE_DISPLAY_COMMAND, (JsonNode) body, JsonNode.class);
-				if (responseData != null && responseData.has(MagicInfoConstant.STATUS) && MagicInfoConstant.SUCCESS.equals(responseData.get(MagicInfoConstant.STATUS).asText())) {
-					status = true;
-				} else {
-					//sleep 1000 to void send many request to the device
-					Thread.sleep(1000);
-				}
-			}
+			awaitConfirmation(confirmUpdate(id, requestId));
 		} catch (Exception e) {
 			throw new IllegalArgumentException(String.format("Can't control property %s", property.getName()), e);
 		}
@@ -2024,6 +3419,74 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		return idListNode;
 	}
 
+	/**
+	 * Starts tracking the confirmation of an update display command.
+	 * Confirmations of the same request id are polled together by {@link #confirmationMultiplexer}, with exponential backoff
+	 * until the devices report success, for at most {@link #controlConfirmationTimeout}.
+	 *
+	 * @param id The unique identifier of the device.
+	 * @param requestId The request identifier associated with the control request.
+	 * @return future completed with the display information of the device reported by the update display response
+	 */
+	private CompletableFuture<JsonNode> confirmUpdate(String id, String requestId) {
+		return confirmationMultiplexer.confirm(requestId, id, controlConfirmationTimeout);
+	}
+
+	/**
+	 * Polls the update display status of several devices of the same control request.
+	 * A response with status Success confirms every polled device, as the update display command did before. Devices
+	 * missing from its success list are confirmed with an empty display information node.
+	 *
+	 * @param requestId The request identifier associated with the control request.
+	 * @param deviceIds ids of the devices to confirm
+	 * @return display information reported per device id, or null while the update is not finished
+	 * @throws Exception if the request fails
+	 */
+	private Map<String, JsonNode> pollUpdateDisplay(String requestId, Collection<String> deviceIds) throws Exception {
+		ObjectNode body = objectMapper.createObjectNode();
+		body.set(MagicInfoConstant.DEVICE_IDS, objectMapper.valueToTree(deviceIds));
+		body.put(MagicInfoConstant.REQUEST_ID, requestId);
+		JsonNode response = this.doPost(MagicInfoCommand.UPDATE_DISPLAY_COMMAND, (JsonNode) body, JsonNode.class);
+		if (response == null || !response.has(MagicInfoConstant.STATUS) || !MagicInfoConstant.SUCCESS.equals(response.get(MagicInfoConstant.STATUS).asText())) {
+			return null;
+		}
+		Map<String, JsonNode> deviceResults = new HashMap<>();
+		if (checkDeviceInformationResponse(response)) {
+			JsonNode successList = response.get(MagicInfoConstant.ITEMS).get(MagicInfoConstant.SUCCESS_LIST);
+			for (JsonNode item : successList) {
+				String id = getDeviceIdFromInformation(item);
+				if (id != null) {
+					deviceResults.put(id, item);
+				}
+			}
+			// a single device response is matched to the polled device even if it does not repeat the device id
+			if (deviceResults.isEmpty() && deviceIds.size() == 1 && successList.size() == 1) {
+				deviceResults.put(deviceIds.iterator().next(), successList.get(0));
+			}
+		}
+		for (String deviceId : deviceIds) {
+			deviceResults.computeIfAbsent(deviceId, id -> objectMapper.createObjectNode());
+		}
+		return deviceResults;
+	}
+
+	/**
+	 * Waits for a control confirmation.
+	 * Only the lock of the controlled device is held while waiting, so monitoring and controls of other devices are not
+	 * blocked by a slow display, while the next control of the same device waits until this one is confirmed.
+	 *
+	 * @param confirmation future of the confirmation
+	 * @return confirmation result
+	 * @throws Exception if the confirmation failed or timed out
+	 */
+	private JsonNode awaitConfirmation(CompletableFuture<JsonNode> confirmation) throws Exception {
+		try {
+			return confirmation.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
 	/**
 	 * Retrieves the request ID generated by an update command based on the provided JSON body.
 	 *
@@ -2099,21 +3562,6 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		return String.valueOf(initial);
 	}
 
-	/**
-	 * Combines two JSON nodes into a single JSON node.
-	 *
-	 * @param nodeA The first JSON node to combine.
-	 * @param nodeB The second JSON node to combine.
-	 * @return A combined JSON node containing properties from both input nodes, or null if either of the input nodes is not an object.
-	 */
-	private JsonNode combineJsonNodes(JsonNode nodeA, JsonNode nodeB) {
-		ObjectNode combinedNode = objectMapper.createObjectNode();
-		combinedNode.setAll((ObjectNode) nodeA);
-		combinedNode.setAll((ObjectNode) nodeB);
-
-		return combinedNode;
-	}
-
 	/**
 	 * Converts a value from milliseconds to a formatted date string.
 	 *
@@ -2288,6 +3736,20 @@ public class MagicInfoCommunicator extends RestCommunicator implements Aggregato
 		}
 	}
 
+	/**
+	 * Add a controllable property that is not in advancedControllableProperties yet, without searching the list for a
+	 * property of the same name
+	 *
+	 * @param advancedControllableProperties advancedControllableProperties is the list that store all controllable properties
+	 * @param stats store all statistics
+	 * @param property the property is item advancedControllableProperties
+	 * @param value value of the property
+	 */
+	private void addNewAdvanceControlProperty(List<AdvancedControllableProperty> advancedControllableProperties, Map<String, String> stats, AdvancedControllableProperty property, String value) {
+		stats.put(property.getName(), StringUtils.isNotNullOrEmpty(value) ? value : MagicInfoConstant.EMPTY);
+		advancedControllableProperties.add(property);
+	}
+
 	/**
 	 * Create text is control property for metric
 	 *
@@ -0,0 +1,304 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.auth;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import javax.security.auth.login.FailedLoginException;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Keeps the API token of the MagicInfo server.
+ * The token is refreshed ahead of its expiry by {@link #refresh()}, so requests keep using the current token while the
+ * new one is requested. Callers that need a token while none is valid share a single in-flight login, and a token
+ * rejected by the server is {@link #invalidate(String) invalidated} once, no matter how many requests it failed.
+ * <p>
+ * The lifetime of the tokens is learned: a lifetime reported by the server is used as is and never shortened. Otherwise,
+ * after several tokens in a row were rejected before their expected expiry the lifetime is shortened halfway to the age
+ * the last one was rejected at, while a single rejection, e.g. after a server restart, is ignored. After several tokens
+ * in a row were replaced without being rejected the lifetime is extended step by step, up to the maximum lifetime.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class TokenManager {
+	/**
+	 * Login request to the server.
+	 */
+	@FunctionalInterface
+	public interface Login {
+		/**
+		 * Sends the login request.
+		 *
+		 * @return new API token
+		 * @throws Exception if the login fails
+		 */
+		IssuedToken login() throws Exception;
+	}
+
+	/**
+	 * API token returned by a login, together with the lifetime reported by the server.
+	 */
+	public static class IssuedToken {
+		private final String token;
+		private final long lifetime;
+
+		/**
+		 * Constructor for IssuedToken.
+		 *
+		 * @param token API token
+		 * @param lifetime time in milliseconds the token is valid for according to the server, 0 if it is unknown
+		 */
+		public IssuedToken(String token, long lifetime) {
+			this.token = token;
+			this.lifetime = lifetime;
+		}
+
+		/**
+		 * Retrieves {@link #token}
+		 *
+		 * @return value of {@link #token}
+		 */
+		public String getToken() {
+			return token;
+		}
+
+		/**
+		 * Retrieves {@link #lifetime}
+		 *
+		 * @return value of {@link #lifetime}
+		 */
+		public long getLifetime() {
+			return lifetime;
+		}
+	}
+
+	/**
+	 * Number of tokens in a row replaced without being rejected, after which a learned lifetime is extended.
+	 */
+	private static final int LIFETIME_PROBE_THRESHOLD = 3;
+
+	/**
+	 * Number of tokens in a row rejected before their expected expiry, after which the learned lifetime is shortened.
+	 */
+	private static final int LIFETIME_REJECTION_THRESHOLD = 2;
+
+	private final Login login;
+	private final long minLifetime;
+	private final long maxLifetime;
+	private final long refreshMargin;
+	private final long retryDelay;
+	private final LongSupplier clock;
+	private volatile long lifetime;
+	private volatile String token;
+	private volatile long expiryTimestamp;
+	private long issueTimestamp;
+	private boolean lifetimeReported;
+	private boolean rejected;
+	private int acceptedTokens;
+	private int rejectedTokens;
+	private CompletableFuture<String> pendingLogin;
+
+	/**
+	 * Constructor for TokenManager.
+	 *
+	 * @param login login request to the server
+	 * @param initialLifetime time in milliseconds a token is assumed to be valid for, until its lifetime is learned
+	 * @param minLifetime minimum learned lifetime in milliseconds
+	 * @param maxLifetime maximum learned lifetime in milliseconds
+	 * @param refreshMargin time in milliseconds before the expiry of a token at which it is refreshed, at most a fifth
+	 * of the lifetime
+	 * @param retryDelay minimum time in milliseconds between two background refreshes
+	 */
+	public TokenManager(Login login, long initialLifetime, long minLifetime, long maxLifetime, long refreshMargin, long retryDelay) {
+		this(login, initialLifetime, minLifetime, maxLifetime, refreshMargin, retryDelay, System::currentTimeMillis);
+	}
+
+	/**
+	 * Constructor for TokenManager, reading the time from the given clock.
+	 *
+	 * @param login login request to the server
+	 * @param initialLifetime time in milliseconds a token is assumed to be valid for, until its lifetime is learned
+	 * @param minLifetime minimum learned lifetime in milliseconds
+	 * @param maxLifetime maximum learned lifetime in milliseconds
+	 * @param refreshMargin time in milliseconds before the expiry of a token at which it is refreshed, at most a fifth
+	 * of the lifetime
+	 * @param retryDelay minimum time in milliseconds between two background refreshes
+	 * @param clock current time in milliseconds
+	 */
+	TokenManager(Login login, long initialLifetime, long minLifetime, long maxLifetime, long refreshMargin, long retryDelay, LongSupplier clock) {
+		this.login = login;
+		this.lifetime = initialLifetime;
+		this.minLifetime = minLifetime;
+		this.maxLifetime = maxLifetime;
+		this.refreshMargin = refreshMargin;
+		this.retryDelay = retryDelay;
+		this.clock = clock;
+	}
+
+	/**
+	 * Retrieves {@link #lifetime}
+	 *
+	 * @return value of {@link #lifetime}
+	 */
+	public long getLifetime() {
+		return lifetime;
+	}
+
+	/**
+	 * Retrieves a valid token, logging in if there is none.
+	 *
+	 * @return valid API token
+	 * @throws Exception if the login fails
+	 */
+	public String getToken() throws Exception {
+		String currentToken = token;
+		if (currentToken != null && clock.getAsLong() < expiryTimestamp) {
+			return currentToken;
+		}
+		return login();
+	}
+
+	/**
+	 * Retrieves the current token, without checking whether it is still valid.
+	 *
+	 * @return current API token, or null if there is none
+	 */
+	public String peekToken() {
+		return token;
+	}
+
+	/**
+	 * Refreshes the token if it expires within the refresh margin. Requests keep using the current token meanwhile.
+	 *
+	 * @throws Exception if the login fails
+	 */
+	public void refresh() throws Exception {
+		if (token == null || clock.getAsLong() >= expiryTimestamp - getRefreshMargin()) {
+			login();
+		}
+	}
+
+	/**
+	 * Retrieves the time until the next background refresh is due.
+	 *
+	 * @return delay in milliseconds, at least the retry delay
+	 */
+	public long getRefreshDelay() {
+		if (token == null) {
+			return retryDelay;
+		}
+		return Math.max(retryDelay, expiryTimestamp - getRefreshMargin() - clock.getAsLong());
+	}
+
+	/**
+	 * Invalidates a token rejected by the server. A token that was replaced already is not invalidated again.
+	 * If several tokens in a row were rejected before their expected expiry and the lifetime was not reported by the
+	 * server, the lifetime is shortened halfway to the age the token was rejected at.
+	 *
+	 * @param rejectedToken token the request was sent with
+	 */
+	public synchronized void invalidate(String rejectedToken) {
+		if (rejectedToken == null || !rejectedToken.equals(token) || rejected) {
+			return;
+		}
+		rejected = true;
+		acceptedTokens = 0;
+		long age = clock.getAsLong() - issueTimestamp;
+		if (!lifetimeReported && age < lifetime && ++rejectedTokens >= LIFETIME_REJECTION_THRESHOLD) {
+			lifetime = Math.max(minLifetime, (lifetime + age) / 2);
+			rejectedTokens = 0;
+		}
+		expiryTimestamp = 0;
+	}
+
+	/**
+	 * Forgets the current token. The learned lifetime is kept.
+	 */
+	public synchronized void clear() {
+		token = null;
+		expiryTimestamp = 0;
+		rejected = false;
+	}
+
+	/**
+	 * Retrieves the time before the expiry of a token at which it is refreshed.
+	 *
+	 * @return refresh margin in milliseconds
+	 */
+	private long getRefreshMargin() {
+		return Math.min(refreshMargin, lifetime / 5);
+	}
+
+	/**
+	 * Stores a new token and learns the lifetime of the tokens from it.
+	 *
+	 * @param issuedToken token returned by the login
+	 * @param requestTimestamp time in milliseconds the login was sent at
+	 */
+	private synchronized void accept(IssuedToken issuedToken, long requestTimestamp) {
+		if (issuedToken.getLifetime() > 0) {
+			lifetime = Math.min(maxLifetime, Math.max(minLifetime, issuedToken.getLifetime()));
+			lifetimeReported = true;
+		} else if (token != null && !rejected) {
+			rejectedTokens = 0;
+			if (!lifetimeReported && ++acceptedTokens >= LIFETIME_PROBE_THRESHOLD) {
+				// the previous tokens were never rejected, the server may keep them longer
+				lifetime = Math.min(maxLifetime, lifetime + lifetime / 4);
+				acceptedTokens = 0;
+			}
+		}
+		token = issuedToken.getToken();
+		issueTimestamp = requestTimestamp;
+		expiryTimestamp = requestTimestamp + lifetime;
+		rejected = false;
+	}
+
+	/**
+	 * Logs in, or waits for the login that is in flight already.
+	 *
+	 * @return new API token
+	 * @throws Exception if the login fails
+	 */
+	private String login() throws Exception {
+		CompletableFuture<String> future;
+		boolean owner = false;
+		synchronized (this) {
+			if (pendingLogin == null) {
+				pendingLogin = new CompletableFuture<>();
+				owner = true;
+			}
+			future = pendingLogin;
+		}
+		if (owner) {
+			try {
+				long requestTimestamp = clock.getAsLong();
+				IssuedToken issuedToken = login.login();
+				if (issuedToken == null || StringUtils.isNullOrEmpty(issuedToken.getToken())) {
+					throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
+				}
+				accept(issuedToken, requestTimestamp);
+				future.complete(issuedToken.getToken());
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			} finally {
+				synchronized (this) {
+					pendingLogin = null;
+				}
+			}
+		}
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
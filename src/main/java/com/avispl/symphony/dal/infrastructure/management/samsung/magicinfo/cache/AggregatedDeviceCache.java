@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * Concurrent cache of aggregated devices keyed by device id.
+ * Lookups and replacements are O(1) and do not lock the whole cache. The cache remembers the order in which devices were
+ * first added, replacing a device keeps its position, so {@link #snapshot()} returns a stable, insertion ordered list.
+ * Every change advances the {@link #getGeneration() generation} of the cache and records the id of the changed device,
+ * so a consumer can rebuild what it derives from the cache only for the devices {@link #drainChangedIds() changed} since
+ * it last looked, and the snapshot is only sorted again after a change.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class AggregatedDeviceCache {
+	/**
+	 * Cached device together with the position it was first added at.
+	 */
+	private static class Entry {
+		private final long order;
+		private final AggregatedDevice device;
+
+		/**
+		 * Constructor for Entry.
+		 *
+		 * @param order insertion position of the device
+		 * @param device cached device
+		 */
+		private Entry(long order, AggregatedDevice device) {
+			this.order = order;
+			this.device = device;
+		}
+	}
+
+	/**
+	 * Snapshot of the cached devices, together with the generation it was taken at.
+	 */
+	private static class Snapshot {
+		private final long generation;
+		private final List<AggregatedDevice> devices;
+
+		/**
+		 * Constructor for Snapshot.
+		 *
+		 * @param generation generation of the cache when the snapshot was taken
+		 * @param devices cached devices, in insertion order
+		 */
+		private Snapshot(long generation, List<AggregatedDevice> devices) {
+			this.generation = generation;
+			this.devices = devices;
+		}
+	}
+
+	private final ConcurrentHashMap<String, Entry> devices = new ConcurrentHashMap<>();
+	private final AtomicLong insertionOrder = new AtomicLong();
+	private final AtomicLong generation = new AtomicLong();
+	private final Set<String> changedIds = ConcurrentHashMap.newKeySet();
+	private volatile Snapshot lastSnapshot;
+
+	/**
+	 * Retrieves the cached device with the given id.
+	 *
+	 * @param deviceId id of the device
+	 * @return cached device, or null if the device is not cached
+	 */
+	public AggregatedDevice get(String deviceId) {
+		Entry entry = devices.get(deviceId);
+		return entry != null ? entry.device : null;
+	}
+
+	/**
+	 * Adds a device to the cache, or replaces the cached device with the same id.
+	 *
+	 * @param device device to cache
+	 */
+	public void put(AggregatedDevice device) {
+		devices.compute(device.getDeviceId(), (id, entry) -> new Entry(entry != null ? entry.order : insertionOrder.incrementAndGet(), device));
+		changed(device.getDeviceId());
+	}
+
+	/**
+	 * Removes the device with the given id.
+	 *
+	 * @param deviceId id of the device
+	 */
+	public void remove(String deviceId) {
+		if (devices.remove(deviceId) != null) {
+			changed(deviceId);
+		}
+	}
+
+	/**
+	 * Removes every device whose id is not in the given collection.
+	 *
+	 * @param deviceIds ids of the devices to keep
+	 */
+	public void retainAll(Collection<String> deviceIds) {
+		Set<String> retainedIds = deviceIds instanceof Set ? (Set<String>) deviceIds : new HashSet<>(deviceIds);
+		for (String id : devices.keySet()) {
+			if (!retainedIds.contains(id)) {
+				remove(id);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the cache contains a device with the given id.
+	 *
+	 * @param deviceId id of the device
+	 * @return true if the device is cached
+	 */
+	public boolean contains(String deviceId) {
+		return devices.containsKey(deviceId);
+	}
+
+	/**
+	 * Checks whether the cache is empty.
+	 *
+	 * @return true if no device is cached
+	 */
+	public boolean isEmpty() {
+		return devices.isEmpty();
+	}
+
+	/**
+	 * Retrieves the number of cached devices.
+	 *
+	 * @return number of cached devices
+	 */
+	public int size() {
+		return devices.size();
+	}
+
+	/**
+	 * Removes all devices from the cache.
+	 */
+	public void clear() {
+		devices.keySet().forEach(this::remove);
+	}
+
+	/**
+	 * Retrieves the generation of the cache, which advances whenever a device is added, replaced or removed.
+	 *
+	 * @return current generation
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Retrieves and forgets the ids of the devices added, replaced or removed since the previous call.
+	 * Devices changed while the ids are drained are either returned now or by the next call. The cache has a single
+	 * consumer of its changes.
+	 *
+	 * @return ids of the changed devices, a device that is not cached anymore was removed
+	 */
+	public Set<String> drainChangedIds() {
+		Set<String> drainedIds = new HashSet<>();
+		for (String id : changedIds) {
+			if (changedIds.remove(id)) {
+				drainedIds.add(id);
+			}
+		}
+		return drainedIds;
+	}
+
+	/**
+	 * Records a device as changed again, e.g. when its change could not be consumed yet. The device is returned by the
+	 * next {@link #drainChangedIds()} call.
+	 *
+	 * @param deviceId id of the device
+	 */
+	public void markChanged(String deviceId) {
+		if (devices.containsKey(deviceId)) {
+			changed(deviceId);
+		}
+	}
+
+	/**
+	 * Creates a snapshot of the cached devices, in the order they were first added.
+	 * The devices are only sorted again if the cache changed since the previous snapshot.
+	 *
+	 * @return new list of the cached devices
+	 */
+	public List<AggregatedDevice> snapshot() {
+		Snapshot snapshot = lastSnapshot;
+		long currentGeneration = generation.get();
+		if (snapshot == null || snapshot.generation != currentGeneration) {
+			List<Entry> entries = new ArrayList<>(devices.values());
+			entries.sort(Comparator.comparingLong(entry -> entry.order));
+			snapshot = new Snapshot(currentGeneration, entries.stream().map(entry -> entry.device).collect(Collectors.toList()));
+			lastSnapshot = snapshot;
+		}
+		return new ArrayList<>(snapshot.devices);
+	}
+
+	/**
+	 * Records a change of a device. The id is recorded before the generation advances, so a consumer that sees the new
+	 * generation also finds the id.
+	 *
+	 * @param deviceId id of the changed device
+	 */
+	private void changed(String deviceId) {
+		changedIds.add(deviceId);
+		generation.incrementAndGet();
+	}
+}
@@ -0,0 +1,483 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+
+/**
+ * Compact binary encoding of the raw information of a device, keeping only the fields referenced by the model mapping.
+ * The schema is the fixed list of field paths read by the mapping expressions, so a record starts with a bitmap of the
+ * fields present, followed by the value of each of them: booleans and nulls in the type tag alone, integers as
+ * variable length numbers, and text values as an index into a dictionary of the values already seen for the field
+ * (power states, sources, models, versions...), or inline once the dictionary of the field is full or for long values.
+ * Objects, arrays and other values are kept as JSON.
+ * {@link #decode(byte[])} rebuilds a JSON object holding exactly the referenced fields with their original values,
+ * so it maps to the same properties as the full payload. Field names of decoded nodes are the interned schema names.
+ * Dictionaries only grow, so a record encoded once stays decodable.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CompactDeviceCodec {
+	/**
+	 * Maximum number of values of the dictionary of a field, further values are stored inline
+	 */
+	public static final int MAX_DICTIONARY_SIZE = 256;
+
+	/**
+	 * Maximum length of the text values stored in a dictionary, longer values are stored inline
+	 */
+	public static final int MAX_DICTIONARY_VALUE_LENGTH = 128;
+
+	private static final Pattern EXPRESSION = Pattern.compile("get\\(\"[^\"]*\"\\)(\\?\\.get\\(\"[^\"]*\"\\))*");
+	private static final Pattern FIELD = Pattern.compile("get\\(\"([^\"]*)\"\\)");
+
+	private static final int NULL = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+	private static final int INT = 3;
+	private static final int LONG = 4;
+	private static final int DOUBLE = 5;
+	private static final int DICTIONARY = 6;
+	private static final int TEXT = 7;
+	private static final int JSON = 8;
+
+	/**
+	 * Text values already seen for a field, in the order they were added.
+	 */
+	private static class Dictionary {
+		private final List<String> values = new CopyOnWriteArrayList<>();
+		private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+
+		/**
+		 * Retrieves the index of a value, adding it if the dictionary is not full.
+		 *
+		 * @param value text value
+		 * @return index of the value, or -1 if it is not in the dictionary
+		 */
+		private int indexOf(String value) {
+			if (value.length() > MAX_DICTIONARY_VALUE_LENGTH) {
+				return -1;
+			}
+			Integer index = indexes.get(value);
+			if (index != null) {
+				return index;
+			}
+			synchronized (this) {
+				index = indexes.get(value);
+				if (index != null) {
+					return index;
+				}
+				if (values.size() >= MAX_DICTIONARY_SIZE) {
+					return -1;
+				}
+				values.add(value);
+				indexes.put(value, values.size() - 1);
+				return values.size() - 1;
+			}
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String[][] paths;
+	private final Dictionary[] dictionaries;
+
+	/**
+	 * Constructor for CompactDeviceCodec.
+	 *
+	 * @param paths field paths kept by the codec, a path nested in another path is covered by the latter
+	 */
+	public CompactDeviceCodec(Collection<List<String>> paths) {
+		List<List<String>> schema = new ArrayList<>();
+		for (List<String> path : new LinkedHashSet<>(paths)) {
+			if (paths.stream().noneMatch(other -> other.size() < path.size() && other.equals(path.subList(0, other.size())))) {
+				schema.add(path);
+			}
+		}
+		this.paths = new String[schema.size()][];
+		this.dictionaries = new Dictionary[schema.size()];
+		for (int i = 0; i < schema.size(); i++) {
+			this.paths[i] = schema.get(i).stream().map(String::intern).toArray(String[]::new);
+			this.dictionaries[i] = new Dictionary();
+		}
+	}
+
+	/**
+	 * Creates a codec keeping the fields read by the given model mappings, and additional field paths.
+	 *
+	 * @param mappings model mappings
+	 * @param additionalPaths field paths read outside the mapping, e.g. the device id
+	 * @return codec
+	 * @throws IllegalArgumentException if a mapping expression is not a chain of field reads
+	 */
+	public static CompactDeviceCodec forMappings(Collection<PropertiesMapping> mappings, Collection<List<String>> additionalPaths) {
+		Set<List<String>> paths = new LinkedHashSet<>();
+		for (PropertiesMapping mapping : mappings) {
+			for (Map<String, String> expressions : Arrays.asList(mapping.getDeviceProperties(), mapping.getProperties(), mapping.getStatistics(),
+					mapping.getDynamicStatistics(), mapping.getControlProperties())) {
+				if (expressions == null) {
+					continue;
+				}
+				for (String expression : expressions.values()) {
+					paths.add(parseExpression(expression.trim()));
+				}
+			}
+		}
+		paths.addAll(additionalPaths);
+		return new CompactDeviceCodec(paths);
+	}
+
+	/**
+	 * Retrieves the field path read by a mapping expression.
+	 *
+	 * @param expression mapping expression such as get("generalConf")?.get("power")
+	 * @return field path
+	 * @throws IllegalArgumentException if the expression is not a chain of field reads
+	 */
+	private static List<String> parseExpression(String expression) {
+		if (!EXPRESSION.matcher(expression).matches()) {
+			throw new IllegalArgumentException(String.format("Unsupported mapping expression %s", expression));
+		}
+		List<String> path = new ArrayList<>();
+		Matcher matcher = FIELD.matcher(expression);
+		while (matcher.find()) {
+			path.add(matcher.group(1));
+		}
+		return path;
+	}
+
+	/**
+	 * Encodes the referenced fields of the raw information of a device.
+	 *
+	 * @param node raw information of the device
+	 * @return encoded record
+	 */
+	public byte[] encode(JsonNode node) {
+		JsonNode[] values = new JsonNode[paths.length];
+		byte[] presence = new byte[(paths.length + 7) / 8];
+		for (int i = 0; i < paths.length; i++) {
+			JsonNode value = node;
+			for (String field : paths[i]) {
+				value = value.get(field);
+				if (value == null) {
+					break;
+				}
+			}
+			if (value != null) {
+				values[i] = value;
+				presence[i / 8] |= 1 << (i % 8);
+			}
+		}
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(presence.length + paths.length * 2);
+			DataOutputStream output = new DataOutputStream(bytes);
+			output.write(presence);
+			for (int i = 0; i < paths.length; i++) {
+				if (values[i] != null) {
+					writeValue(output, i, values[i]);
+				}
+			}
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decodes a record into a JSON object holding the referenced fields.
+	 *
+	 * @param record record returned by {@link #encode(JsonNode)}
+	 * @return raw information of the device, restricted to the referenced fields
+	 */
+	public ObjectNode decode(byte[] record) {
+		ObjectNode root = objectMapper.createObjectNode();
+		try {
+			DataInputStream input = new DataInputStream(new ByteArrayInputStream(record));
+			byte[] presence = new byte[(paths.length + 7) / 8];
+			input.readFully(presence);
+			for (int i = 0; i < paths.length; i++) {
+				if ((presence[i / 8] & (1 << (i % 8))) == 0) {
+					continue;
+				}
+				ObjectNode parent = root;
+				String[] path = paths[i];
+				for (int j = 0; j < path.length - 1; j++) {
+					JsonNode child = parent.get(path[j]);
+					parent = child instanceof ObjectNode ? (ObjectNode) child : parent.putObject(path[j]);
+				}
+				parent.set(path[path.length - 1], readValue(input, i));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return root;
+	}
+
+	/**
+	 * Writes the schema and the dictionaries, so records can be decoded by the codec returned by {@link #read(DataInput)}.
+	 * Records have to be encoded before the codec is written.
+	 *
+	 * @param output output to write to
+	 * @throws IOException if the output can not be written
+	 */
+	public void write(DataOutput output) throws IOException {
+		output.writeInt(paths.length);
+		for (int i = 0; i < paths.length; i++) {
+			output.writeInt(paths[i].length);
+			for (String field : paths[i]) {
+				writeString(output, field);
+			}
+			List<String> values = new ArrayList<>(dictionaries[i].values);
+			output.writeInt(values.size());
+			for (String value : values) {
+				writeString(output, value);
+			}
+		}
+	}
+
+	/**
+	 * Reads a codec written by {@link #write(DataOutput)}.
+	 *
+	 * @param input input to read from
+	 * @return codec with the schema and the dictionaries read
+	 * @throws IOException if the input can not be read
+	 */
+	public static CompactDeviceCodec read(DataInput input) throws IOException {
+		int pathCount = input.readInt();
+		List<List<String>> paths = new ArrayList<>(pathCount);
+		List<List<String>> dictionaryValues = new ArrayList<>(pathCount);
+		for (int i = 0; i < pathCount; i++) {
+			int fieldCount = input.readInt();
+			List<String> path = new ArrayList<>(fieldCount);
+			for (int j = 0; j < fieldCount; j++) {
+				path.add(readString(input));
+			}
+			paths.add(path);
+			int valueCount = input.readInt();
+			List<String> values = new ArrayList<>(valueCount);
+			for (int j = 0; j < valueCount; j++) {
+				values.add(readString(input));
+			}
+			dictionaryValues.add(values);
+		}
+		CompactDeviceCodec codec = new CompactDeviceCodec(paths);
+		if (codec.paths.length != pathCount) {
+			throw new IOException("Invalid codec schema");
+		}
+		for (int i = 0; i < pathCount; i++) {
+			for (String value : dictionaryValues.get(i)) {
+				codec.dictionaries[i].indexOf(value);
+			}
+		}
+		return codec;
+	}
+
+	/**
+	 * Retrieves the field paths kept by the codec.
+	 *
+	 * @return field paths, in record order
+	 */
+	public List<List<String>> getPaths() {
+		List<List<String>> result = new ArrayList<>(paths.length);
+		for (String[] path : paths) {
+			result.add(Collections.unmodifiableList(Arrays.asList(path)));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Writes the value of a field.
+	 *
+	 * @param output output to write to
+	 * @param index index of the field in the schema
+	 * @param value value of the field
+	 * @throws IOException if the output can not be written
+	 */
+	private void writeValue(DataOutputStream output, int index, JsonNode value) throws IOException {
+		if (value.isNull()) {
+			output.writeByte(NULL);
+		} else if (value.isBoolean()) {
+			output.writeByte(value.booleanValue() ? TRUE : FALSE);
+		} else if (value.isInt()) {
+			output.writeByte(INT);
+			writeVarLong(output, value.intValue());
+		} else if (value.isLong()) {
+			output.writeByte(LONG);
+			writeVarLong(output, value.longValue());
+		} else if (value.isDouble()) {
+			output.writeByte(DOUBLE);
+			output.writeDouble(value.doubleValue());
+		} else if (value.isTextual()) {
+			int dictionaryIndex = dictionaries[index].indexOf(value.textValue());
+			if (dictionaryIndex >= 0) {
+				output.writeByte(DICTIONARY);
+				writeVarLong(output, dictionaryIndex);
+			} else {
+				output.writeByte(TEXT);
+				writeBytes(output, value.textValue().getBytes(StandardCharsets.UTF_8));
+			}
+		} else {
+			output.writeByte(JSON);
+			writeBytes(output, objectMapper.writeValueAsBytes(value));
+		}
+	}
+
+	/**
+	 * Reads the value of a field.
+	 *
+	 * @param input input to read from
+	 * @param index index of the field in the schema
+	 * @return value of the field
+	 * @throws IOException if the input can not be read
+	 */
+	private JsonNode readValue(DataInputStream input, int index) throws IOException {
+		int tag = input.readUnsignedByte();
+		switch (tag) {
+			case NULL:
+				return NullNode.getInstance();
+			case TRUE:
+				return BooleanNode.TRUE;
+			case FALSE:
+				return BooleanNode.FALSE;
+			case INT:
+				return IntNode.valueOf((int) readVarLong(input));
+			case LONG:
+				return LongNode.valueOf(readVarLong(input));
+			case DOUBLE:
+				return DoubleNode.valueOf(input.readDouble());
+			case DICTIONARY:
+				return TextNode.valueOf(dictionaries[index].values.get((int) readVarLong(input)));
+			case TEXT:
+				return TextNode.valueOf(new String(readBytes(input), StandardCharsets.UTF_8));
+			case JSON:
+				return objectMapper.readTree(readBytes(input));
+			default:
+				throw new IOException(String.format("Invalid value tag %s", tag));
+		}
+	}
+
+	/**
+	 * Writes a text as its length followed by its UTF-8 bytes, {@link DataOutput#writeUTF(String)} being limited to 64KB.
+	 *
+	 * @param output output to write to
+	 * @param value text
+	 * @throws IOException if the output can not be written
+	 */
+	private static void writeString(DataOutput output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Reads a text written by {@link #writeString(DataOutput, String)}.
+	 *
+	 * @param input input to read from
+	 * @return text
+	 * @throws IOException if the input can not be read
+	 */
+	private static String readString(DataInput input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			throw new IOException("Invalid text length");
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes a number as zigzag encoded variable length bytes, 7 bits per byte.
+	 *
+	 * @param output output to write to
+	 * @param value number
+	 * @throws IOException if the output can not be written
+	 */
+	private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			output.writeByte((int) ((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		output.writeByte((int) zigzag);
+	}
+
+	/**
+	 * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+	 *
+	 * @param input input to read from
+	 * @return number
+	 * @throws IOException if the input can not be read
+	 */
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigzag = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = input.readUnsignedByte();
+			zigzag |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+		}
+		throw new IOException("Invalid variable length number");
+	}
+
+	/**
+	 * Writes a length prefixed byte array.
+	 *
+	 * @param output output to write to
+	 * @param bytes bytes
+	 * @throws IOException if the output can not be written
+	 */
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		writeVarLong(output, bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Reads a byte array written by {@link #writeBytes(DataOutputStream, byte[])}.
+	 *
+	 * @param input input to read from
+	 * @return bytes
+	 * @throws IOException if the input can not be read
+	 */
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[(int) readVarLong(input)];
+		input.readFully(bytes);
+		return bytes;
+	}
+}
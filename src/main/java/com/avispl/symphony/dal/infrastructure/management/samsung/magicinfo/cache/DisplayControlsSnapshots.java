@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Snapshots of the display information of each device, used to build the body of group controls
+ * (web browser url, timers, auto source switching, pixel shift) without requesting the display information again.
+ * Only the fields the group controls read are kept, serialized as JSON bytes until a control reads them.
+ * Every snapshot keeps the time its data was requested at, an older snapshot never replaces a newer one, and
+ * {@link #getFresh(String, long)} only returns snapshots younger than the given age limit. Older snapshots are
+ * dropped by {@link #removeExpired(long)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class DisplayControlsSnapshots {
+	/**
+	 * Display information of a device, together with the time it was requested at.
+	 */
+	private static class Snapshot {
+		private final byte[] displayInfo;
+		private final long timestamp;
+
+		/**
+		 * Constructor for Snapshot.
+		 *
+		 * @param displayInfo serialized display information of the device, null for an invalidated snapshot
+		 * @param timestamp time in milliseconds the display information was requested at
+		 */
+		private Snapshot(byte[] displayInfo, long timestamp) {
+			this.displayInfo = displayInfo;
+			this.timestamp = timestamp;
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+	private final Set<String> fields;
+
+	/**
+	 * Constructor for DisplayControlsSnapshots.
+	 *
+	 * @param fields top level fields of the display information kept in the snapshots
+	 */
+	public DisplayControlsSnapshots(String... fields) {
+		this.fields = new LinkedHashSet<>(Arrays.asList(fields));
+	}
+
+	/**
+	 * Stores the kept fields of the display information of a device, unless a snapshot requested later is stored already.
+	 *
+	 * @param deviceId id of the device
+	 * @param displayInfo display information of the device
+	 * @param timestamp time in milliseconds the display information was requested at
+	 */
+	public void put(String deviceId, JsonNode displayInfo, long timestamp) {
+		ObjectNode kept = objectMapper.createObjectNode();
+		for (String field : fields) {
+			JsonNode value = displayInfo.get(field);
+			if (value != null) {
+				kept.set(field, value);
+			}
+		}
+		byte[] serialized;
+		try {
+			serialized = objectMapper.writeValueAsBytes(kept);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		snapshots.merge(deviceId, new Snapshot(serialized, timestamp), (current, next) -> next.timestamp >= current.timestamp ? next : current);
+	}
+
+	/**
+	 * Retrieves a copy of the display information of a device, if it is recent enough.
+	 *
+	 * @param deviceId id of the device
+	 * @param maxAge maximum age of the snapshot in milliseconds
+	 * @return copy of the display information, or null if there is no snapshot younger than maxAge
+	 */
+	public JsonNode getFresh(String deviceId, long maxAge) {
+		Snapshot snapshot = snapshots.get(deviceId);
+		if (snapshot == null || snapshot.displayInfo == null || System.currentTimeMillis() - snapshot.timestamp > maxAge) {
+			return null;
+		}
+		try {
+			return objectMapper.readTree(snapshot.displayInfo);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Invalidates the snapshot of a device, e.g. before and after it is controlled. Display information requested
+	 * before the invalidation is not stored anymore.
+	 *
+	 * @param deviceId id of the device
+	 */
+	public void invalidate(String deviceId) {
+		snapshots.put(deviceId, new Snapshot(null, System.currentTimeMillis()));
+	}
+
+	/**
+	 * Removes the snapshots of devices that are not in the given collection.
+	 *
+	 * @param deviceIds ids of the devices to keep
+	 */
+	public void retainAll(Collection<String> deviceIds) {
+		snapshots.keySet().retainAll(deviceIds);
+	}
+
+	/**
+	 * Removes the snapshots and invalidations older than the given age. Display information requested that long ago
+	 * is never returned by {@link #getFresh(String, long)}, so dropping an invalidation does not let it back in.
+	 *
+	 * @param maxAge maximum age of the snapshots in milliseconds
+	 */
+	public void removeExpired(long maxAge) {
+		long now = System.currentTimeMillis();
+		snapshots.values().removeIf(snapshot -> now - snapshot.timestamp > maxAge);
+	}
+
+	/**
+	 * Removes every snapshot.
+	 */
+	public void clear() {
+		snapshots.clear();
+	}
+}
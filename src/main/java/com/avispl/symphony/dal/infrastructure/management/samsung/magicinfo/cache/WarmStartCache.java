@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local file keeping the last raw general and display information of the devices, so a restarted aggregator can serve
+ * the devices right away while they are collected again.
+ * The file is a gzip compressed binary document carrying a format version, the identity of the configuration it was
+ * collected with (server, account, filters...), the time it was written at, the schema and dictionaries of the
+ * {@link CompactDeviceCodec} the records were encoded with, and the records of every device. Records are decoded with
+ * that codec and encoded again with the current one on load. It is written to a temporary file first and moved over the
+ * previous one, so a reader never sees a partly written file. A file of another version, of another identity or older
+ * than the maximum age is ignored.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class WarmStartCache {
+	/**
+	 * Version of the file format, files of other versions are ignored
+	 */
+	public static final int FORMAT_VERSION = 3;
+
+	private static final int MAGIC = 0x4D494331;
+
+	/**
+	 * Encoded information of the devices, as written to or read from the file.
+	 */
+	public static class Contents {
+		private final long timestamp;
+		private final List<String> deviceIds;
+		private final Map<String, byte[]> generalInfo;
+		private final Map<String, byte[]> displayInfo;
+
+		/**
+		 * Constructor for Contents.
+		 *
+		 * @param timestamp time in milliseconds the information was collected at
+		 * @param deviceIds ids of the devices, in device list order
+		 * @param generalInfo encoded general information per device id
+		 * @param displayInfo encoded display information per device id
+		 */
+		public Contents(long timestamp, List<String> deviceIds, Map<String, byte[]> generalInfo, Map<String, byte[]> displayInfo) {
+			this.timestamp = timestamp;
+			this.deviceIds = deviceIds;
+			this.generalInfo = generalInfo;
+			this.displayInfo = displayInfo;
+		}
+
+		/**
+		 * Retrieves {@link #timestamp}
+		 *
+		 * @return value of {@link #timestamp}
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Retrieves {@link #deviceIds}
+		 *
+		 * @return value of {@link #deviceIds}
+		 */
+		public List<String> getDeviceIds() {
+			return deviceIds;
+		}
+
+		/**
+		 * Retrieves {@link #generalInfo}
+		 *
+		 * @return value of {@link #generalInfo}
+		 */
+		public Map<String, byte[]> getGeneralInfo() {
+			return generalInfo;
+		}
+
+		/**
+		 * Retrieves {@link #displayInfo}
+		 *
+		 * @return value of {@link #displayInfo}
+		 */
+		public Map<String, byte[]> getDisplayInfo() {
+			return displayInfo;
+		}
+	}
+
+	private final Path file;
+
+	/**
+	 * Constructor for WarmStartCache.
+	 *
+	 * @param file path of the cache file
+	 */
+	public WarmStartCache(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Writes the information of the devices, replacing the previous file atomically.
+	 *
+	 * @param identity identity of the configuration the information was collected with
+	 * @param codec codec the records of the devices were encoded with
+	 * @param contents information of the devices
+	 * @throws IOException if the file can not be written
+	 */
+	public void save(String identity, CompactDeviceCodec codec, Contents contents) throws IOException {
+		// records are taken before the codec is written, so its dictionaries cover every value they refer to
+		List<String> deviceIds = new ArrayList<>();
+		List<byte[]> generalRecords = new ArrayList<>();
+		List<byte[]> displayRecords = new ArrayList<>();
+		for (String deviceId : contents.getDeviceIds()) {
+			byte[] general = contents.getGeneralInfo().get(deviceId);
+			byte[] display = contents.getDisplayInfo().get(deviceId);
+			if (general == null && display == null) {
+				continue;
+			}
+			deviceIds.add(deviceId);
+			generalRecords.add(general);
+			displayRecords.add(display);
+		}
+
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+				output.writeInt(MAGIC);
+				output.writeInt(FORMAT_VERSION);
+				output.writeUTF(identity);
+				output.writeLong(contents.getTimestamp());
+				codec.write(output);
+				output.writeInt(deviceIds.size());
+				for (int i = 0; i < deviceIds.size(); i++) {
+					output.writeUTF(deviceIds.get(i));
+					writeRecord(output, generalRecords.get(i));
+					writeRecord(output, displayRecords.get(i));
+				}
+			}
+			try {
+				Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Reads the information of the devices.
+	 *
+	 * @param identity identity of the configuration the information has to be collected with
+	 * @param maxAge maximum age of the information in milliseconds
+	 * @param codec codec the records are encoded again with
+	 * @return information of the devices, or null if there is no file, or it is of another version, of another identity or
+	 * older than maxAge
+	 * @throws IOException if the file can not be read
+	 */
+	public Contents load(String identity, long maxAge, CompactDeviceCodec codec) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || !input.readUTF().equals(identity)) {
+				return null;
+			}
+			long timestamp = input.readLong();
+			if (System.currentTimeMillis() - timestamp > maxAge) {
+				return null;
+			}
+			CompactDeviceCodec fileCodec = CompactDeviceCodec.read(input);
+			int deviceCount = input.readInt();
+			List<String> deviceIds = new ArrayList<>(deviceCount);
+			Map<String, byte[]> generalInfo = new LinkedHashMap<>();
+			Map<String, byte[]> displayInfo = new LinkedHashMap<>();
+			for (int i = 0; i < deviceCount; i++) {
+				String deviceId = input.readUTF();
+				deviceIds.add(deviceId);
+				byte[] general = readRecord(input);
+				if (general != null) {
+					generalInfo.put(deviceId, codec.encode(fileCodec.decode(general)));
+				}
+				byte[] display = readRecord(input);
+				if (display != null) {
+					displayInfo.put(deviceId, codec.encode(fileCodec.decode(display)));
+				}
+			}
+			return new Contents(timestamp, deviceIds, generalInfo, displayInfo);
+		}
+	}
+
+	/**
+	 * Writes a length prefixed record, a length of -1 stands for a missing record.
+	 *
+	 * @param output output to write to
+	 * @param record record, may be null
+	 * @throws IOException if the output can not be written
+	 */
+	private static void writeRecord(DataOutputStream output, byte[] record) throws IOException {
+		if (record == null) {
+			output.writeInt(-1);
+			return;
+		}
+		output.writeInt(record.length);
+		output.write(record);
+	}
+
+	/**
+	 * Reads a record written by {@link #writeRecord(DataOutputStream, byte[])}.
+	 *
+	 * @param input input to read from
+	 * @return record, or null if it is missing
+	 * @throws IOException if the input can not be read
+	 */
+	private static byte[] readRecord(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] record = new byte[length];
+		input.readFully(record);
+		return record;
+	}
+}
@@ -4,56 +4,87 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-
-import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * EnumTypeHandler class defined the enum for monitoring and controlling process
+ * The names, values and the name to value mappings of every {@link NameValueEnum} are computed once per enum class and
+ * cached, so lookups do not use reflection and do not allocate.
  *
  * @author Harry / Symphony Dev Team<br>
  * Created on 9/8/2023
  * @since 1.0.0
  */
 public class EnumTypeHandler {
+	/**
+	 * Precomputed names, values and mappings of an enum class
+	 */
+	private static class EnumLookup {
+		private final String[] names;
+		private final String[] values;
+		private final Map<String, String> nameToValue;
+		private final Map<String, String> valueToName;
+
+		/**
+		 * Constructor for EnumLookup.
+		 *
+		 * @param constants constants of the enum class
+		 */
+		private EnumLookup(NameValueEnum[] constants) {
+			names = new String[constants.length];
+			values = new String[constants.length];
+			Map<String, String> nameToValue = new HashMap<>();
+			Map<String, String> valueToName = new HashMap<>();
+			for (int i = 0; i < constants.length; i++) {
+				names[i] = constants[i].getName();
+				values[i] = constants[i].getValue();
+				// the first constant wins, as in a linear search
+				nameToValue.putIfAbsent(names[i], values[i]);
+				valueToName.putIfAbsent(values[i], names[i]);
+			}
+			this.nameToValue = Collections.unmodifiableMap(nameToValue);
+			this.valueToName = Collections.unmodifiableMap(valueToName);
+		}
+	}
+
+	private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<EnumLookup>() {
+		@Override
+		protected EnumLookup computeValue(Class<?> type) {
+			return new EnumLookup((NameValueEnum[]) type.getEnumConstants());
+		}
+	};
+
 	/**
 	 * Get an array of all enum names
+	 * The returned array is shared and must not be modified.
 	 *
 	 * @param enumType the enum type is enum class
 	 */
-	public static <T extends Enum<T>> String[] getEnumNames(Class<T> enumType) {
-		List<String> names = new ArrayList<>();
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c); // getName executed
-				names.add(name);
-			} catch (Exception e) {
-				throw new ResourceNotReachableException("Error to convert enum " + enumType.getSimpleName() + " to names", e);
-			}
-		}
-		return names.toArray(new String[names.size()]);
+	public static <T extends Enum<T> & NameValueEnum> String[] getEnumNames(Class<T> enumType) {
+		return LOOKUPS.get(enumType).names;
 	}
 
 	/**
 	 * Get an array of all enum vales
+	 * The returned array is shared and must not be modified.
 	 *
 	 * @param enumType the enum type is enum class
 	 */
-	public static <T extends Enum<T>> String[] getEnumValues(Class<T> enumType) {
-		List<String> values = new ArrayList<>();
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getValue");
-				String value = (String) method.invoke(c); // getName executed
-				values.add(value);
-			} catch (Exception e) {
-				throw new ResourceNotReachableException("Error to convert enum " + enumType.getSimpleName() + " to names", e);
-			}
-		}
-		return values.toArray(new String[values.size()]);
+	public static <T extends Enum<T> & NameValueEnum> String[] getEnumValues(Class<T> enumType) {
+		return LOOKUPS.get(enumType).values;
+	}
+
+	/**
+	 * Checks whether a constant of the enum has the given value
+	 *
+	 * @param enumType the enum type is enum class
+	 * @param value is String
+	 * @return true if a constant has the given value
+	 */
+	public static <T extends Enum<T> & NameValueEnum> boolean containsValue(Class<T> enumType, String value) {
+		return LOOKUPS.get(enumType).valueToName.containsKey(value);
 	}
 
 	/**
@@ -61,22 +92,10 @@ public class EnumTypeHandler {
 	 *
 	 * @param enumType the enum type is enum class
 	 * @param name is String
-	 * @return T is metric instance
+	 * @return value of the constant with the given name, or {@link MagicInfoConstant#NONE} if there is none
 	 */
-	public static <T extends Enum<T>> String getValueByName(Class<T> enumType, String name) {
-		try {
-			for (T metric : enumType.getEnumConstants()) {
-				Method methodName = metric.getClass().getMethod("getName");
-				String nameMetric = (String) methodName.invoke(metric); // getName executed
-				if (name.equals(nameMetric)) {
-					Method methodValue = metric.getClass().getMethod("getValue");
-					return methodValue.invoke(metric).toString();
-				}
-			}
-			return MagicInfoConstant.NONE;
-		} catch (Exception e) {
-			return MagicInfoConstant.NONE;
-		}
+	public static <T extends Enum<T> & NameValueEnum> String getValueByName(Class<T> enumType, String name) {
+		return LOOKUPS.get(enumType).nameToValue.getOrDefault(name, MagicInfoConstant.NONE);
 	}
 
 	/**
@@ -84,21 +103,9 @@ public class EnumTypeHandler {
 	 *
 	 * @param enumType the enum type is enum class
 	 * @param value is String
-	 * @return T is metric instance
+	 * @return name of the constant with the given value, or {@link MagicInfoConstant#NONE} if there is none
 	 */
-	public static <T extends Enum<T>> String getNameByValue(Class<T> enumType, String value) {
-		try {
-			for (T metric : enumType.getEnumConstants()) {
-				Method methodValue = metric.getClass().getMethod("getValue");
-				String valueMetric = methodValue.invoke(metric).toString(); // getName executed
-				if (value.equals(valueMetric)) {
-					Method methodName = metric.getClass().getMethod("getName");
-					return methodName.invoke(metric).toString();
-				}
-			}
-			return MagicInfoConstant.NONE;
-		} catch (Exception e) {
-			return MagicInfoConstant.NONE;
-		}
+	public static <T extends Enum<T> & NameValueEnum> String getNameByValue(Class<T> enumType, String value) {
+		return LOOKUPS.get(enumType).valueToName.getOrDefault(value, MagicInfoConstant.NONE);
 	}
 }
@@ -16,7 +16,7 @@ public class MagicInfoCommand {
 	public static final String DEVICE_DASHBOARD = "MagicInfo/restapi/v2.0/ems/dashboard/devices";
 	public static final String DEVICE_TYPE_COMMAND = "MagicInfo/restapi/v2.0/rms/devices/device-types";
 	public static final String FILTERING_COMMAND = "MagicInfo/restapi/v2.0/rms/devices/filter";
-	public static final String ALL_DEVICES_COMMAND = "MagicInfo/restapi/v2.0/rms/devices?pageSize=1000&startIndex=1";
+	public static final String ALL_DEVICES_COMMAND = "MagicInfo/restapi/v2.0/rms/devices?pageSize=%s&startIndex=%s";
 	public static final String GENERAL_INFO_COMMAND = "MagicInfo/restapi/v2.0/rms/devices/general-info";
 	public static final String DISPLAY_INFO_COMMAND = "MagicInfo/restapi/v2.0/rms/devices/display-info";
 	public static final String CHECK_CONNECTION_COMMAND = "MagicInfo/restapi/v2.0/rms/devices/connections-checked";
@@ -37,6 +37,8 @@ public class MagicInfoConstant {
 	public static final String SUCCESS_LIST = "successList";
 	public static final String GENERAL_CONF = "generalConf";
 	public static final String PAGE_SIZE = "pageSize";
+	public static final String START_INDEX = "startIndex";
+	public static final String TOTAL_COUNT = "totalCount";
 	public static final String DEVICE_TYPE = "deviceType";
 	public static final String SUCCESS = "Success";
 	public static final String INPUT_SOURCE = "inputSources";
@@ -88,5 +90,30 @@ public class MagicInfoConstant {
 	public static final String AM  = "AM";
 	public static final String MB  = "MB";
 	public static final String GB  = "GB";
-	public static final String PAGE_SIZE_DEFAULT_FILTER  = "400";
+	public static final int PAGE_SIZE_DEFAULT_FILTER = 400;
+	public static final int PAGE_SIZE_DEFAULT_DEVICE = 500;
+	public static final int FIRST_START_INDEX = 1;
+	public static final int MAX_CONCURRENT_REQUESTS_DEFAULT = 4;
+	public static final int DEVICE_INFO_CHUNK_SIZE_DEFAULT = 50;
+	public static final String[] GENERAL_INFO_SIGNATURE_FIELDS = new String[] { "deviceName", "deviceModelName", "deviceModelCode", "deviceType", "deviceTypeVersion",
+			"ipAddress", "macAddress", "location", "mapLocation", "firmwareVersion", "osImageVersion", "playerVersion", "resolution", "screenSize", "power",
+			"lastConnectionTime" };
+	public static final long CONTROL_CONFIRMATION_TIMEOUT_DEFAULT = 60 * 1000L;
+	public static final long CONTROL_CONFIRMATION_INITIAL_DELAY = 250;
+	public static final long CONTROL_CONFIRMATION_MAX_DELAY = 4000;
+	public static final int DEVICE_LOCK_STRIPES = 64;
+	public static final long DISPLAY_CONTROLS_SNAPSHOT_MAX_AGE_DEFAULT = 60 * 1000L;
+	public static final String[] DISPLAY_CONTROLS_SNAPSHOT_FIELDS = new String[] { WEB_BROWSER_URL, MNT_AUTO, AUTO_SOURCE, MNT_PIXEL_SHIFT, MNT_SAFETY_SCREEN_TIMER };
+	public static final long TOKEN_LIFETIME_DEFAULT = 1500 * 1000L;
+	public static final long TOKEN_LIFETIME_MIN = 60 * 1000L;
+	public static final long TOKEN_LIFETIME_MAX = 24 * 60 * 60 * 1000L;
+	public static final String EXPIRES_IN = "expiresIn";
+	public static final String TOKEN_ISSUED_AT = "iat";
+	public static final String TOKEN_EXPIRATION = "exp";
+	public static final long TOKEN_REFRESH_MARGIN = 5 * 60 * 1000L;
+	public static final long TOKEN_REFRESH_RETRY_DELAY = 10 * 1000L;
+	public static final String TOKEN_REFRESH = "TokenRefresh";
+	public static final long WARM_START_CACHE_MAX_AGE_DEFAULT = 60 * 60 * 1000L;
+	public static final long WARM_START_CACHE_SAVE_INTERVAL = 60 * 1000L;
+	public static final String WARM_START_CACHE_FILE_FORMAT = "magicinfo-%s.cache.bin.gz";
 }
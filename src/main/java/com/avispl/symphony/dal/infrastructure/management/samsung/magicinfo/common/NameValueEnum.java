@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common;
+
+/**
+ * Common interface of the enums mapping a name shown in Symphony to a value used by MagicInfo.
+ * Lookups between names and values are done by {@link EnumTypeHandler}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public interface NameValueEnum {
+	/**
+	 * Retrieves the name shown in Symphony
+	 *
+	 * @return name of the enum constant
+	 */
+	String getName();
+
+	/**
+	 * Retrieves the value used by MagicInfo
+	 *
+	 * @return value of the enum constant
+	 */
+	String getValue();
+}
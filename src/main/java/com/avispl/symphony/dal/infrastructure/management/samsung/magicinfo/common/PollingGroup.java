@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common;
+
+/**
+ * Enum representing the groups of data that are polled from Samsung MagicInfo, each with its own refresh interval.
+ * Each enum constant has a name and a default refresh interval in milliseconds.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public enum PollingGroup {
+	DASHBOARD("Dashboard", 30 * 1000L),
+	DEVICE_LIST("DeviceList", 30 * 1000L),
+	GENERAL_INFO("GeneralInfo", 10 * 60 * 1000L),
+	DISPLAY_INFO("DisplayInfo", 30 * 1000L),
+	CONNECTION_CHECK("ConnectionCheck", 30 * 1000L),
+	;
+	private final String name;
+	private final long defaultInterval;
+
+	/**
+	 * Constructor for PollingGroup.
+	 *
+	 * @param name The name representing the polling group.
+	 * @param defaultInterval The default refresh interval of the group in milliseconds.
+	 */
+	PollingGroup(String name, long defaultInterval) {
+		this.name = name;
+		this.defaultInterval = defaultInterval;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #defaultInterval}
+	 *
+	 * @return value of {@link #defaultInterval}
+	 */
+	public long getDefaultInterval() {
+		return defaultInterval;
+	}
+}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.filter;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing function filters used for filtering devices.
  *
@@ -11,7 +13,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/28/2023
  * @since 1.0.0
  */
-public enum FunctionFilterEnum {
+public enum FunctionFilterEnum implements NameValueEnum {
 	VIDEO_WALL("Video Wall", "is_videowall"),
 			;
 	private final String name;
@@ -33,6 +35,7 @@ public enum FunctionFilterEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -42,6 +45,7 @@ public enum FunctionFilterEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.general;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different display source options.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum SourceEnum {
+public enum SourceEnum implements NameValueEnum {
 	ALL("ALL", "0"),
 	PC("PC", "20"),
 	BNC("BNC", "30"),
@@ -63,6 +65,7 @@ public enum SourceEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -72,6 +75,7 @@ public enum SourceEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.general;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  *  Enum representing different intervals for web browser actions.
  *  Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum WebBrowserIntervalEnum {
+public enum WebBrowserIntervalEnum implements NameValueEnum {
 	OFF("Off", "0"),
 	FIVE_MIN("5 min", "300"),
 	TEN_MIN("10 min", "600"),
@@ -38,6 +40,7 @@ public enum WebBrowserIntervalEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -47,6 +50,7 @@ public enum WebBrowserIntervalEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.general;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different intervals for web browser actions.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum WebBrowserZoomEnum {
+public enum WebBrowserZoomEnum implements NameValueEnum {
 	FIFTY("50 %", "50"),
 	SEVENTY_FIVE("75 %", "75"),
 	ONE_HUNDRED("100 %", "100"),
@@ -40,6 +42,7 @@ public enum WebBrowserZoomEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -49,6 +52,7 @@ public enum WebBrowserZoomEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
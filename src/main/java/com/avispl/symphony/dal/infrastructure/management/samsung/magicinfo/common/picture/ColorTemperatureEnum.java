@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.picture;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different zoom levels for a web browser.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum ColorTemperatureEnum {
+public enum ColorTemperatureEnum implements NameValueEnum {
 	VALUE1("2800", "253"),
 	VALUE2("3000", "254"),
 	VALUE3("3500", "35"),
@@ -61,6 +63,7 @@ public enum ColorTemperatureEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -70,6 +73,7 @@ public enum ColorTemperatureEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
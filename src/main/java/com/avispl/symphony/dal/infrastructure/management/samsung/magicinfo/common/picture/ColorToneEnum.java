@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.picture;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different color tone settings.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum ColorToneEnum {
+public enum ColorToneEnum implements NameValueEnum {
 	OFF("Off", "80"),
 	COOL("Cool", "1"),
 	STANDARD("Standard", "2"),
@@ -39,6 +41,7 @@ public enum ColorToneEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -48,6 +51,7 @@ public enum ColorToneEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.picture;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different settings for digital clean view.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum DigitalCleanViewEnum {
+public enum DigitalCleanViewEnum implements NameValueEnum {
 	ON("On", "1"),
 	OFF("Off", "0"),
 	MEDIUM("Medium", "2"),
@@ -39,6 +41,7 @@ public enum DigitalCleanViewEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -48,6 +51,7 @@ public enum DigitalCleanViewEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.picture;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different HDMI black level settings.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/12/2023
  * @since 1.0.0
  */
-public enum HDMIBlackLevelEnum {
+public enum HDMIBlackLevelEnum implements NameValueEnum {
 	NORMAL("Normal", "0"),
 	LOW("Low", "1"),
 	AUTO("Auto", "2"),
@@ -36,6 +38,7 @@ public enum HDMIBlackLevelEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -45,6 +48,7 @@ public enum HDMIBlackLevelEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
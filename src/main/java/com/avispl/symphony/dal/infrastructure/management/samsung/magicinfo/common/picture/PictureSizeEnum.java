@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.picture;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different picture size settings.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum PictureSizeEnum {
+public enum PictureSizeEnum implements NameValueEnum {
 	STANDARD("16:9 Standard", "1"),
 	ZOOM("Zoom", "4"),
 	ZOOM1("Zoom 1", "5"),
@@ -45,6 +47,7 @@ public enum PictureSizeEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -54,6 +57,7 @@ public enum PictureSizeEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.screen;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different immediate display settings.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/8/2023
  * @since 1.0.0
  */
-public enum ImmediateDisplayEnum {
+public enum ImmediateDisplayEnum implements NameValueEnum {
 	OFF("Off", "0"),
 	SIGNAL_PATTERN("Signal Pattern", "1"),
 	ALL_WHITE("All White", "2"),
@@ -42,6 +44,7 @@ public enum ImmediateDisplayEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -51,6 +54,7 @@ public enum ImmediateDisplayEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
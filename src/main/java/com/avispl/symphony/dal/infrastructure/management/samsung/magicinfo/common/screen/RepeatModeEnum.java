@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.screen;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different repeat modes for display settings.
  * Each enum constant has a name and a corresponding numeric value.
@@ -12,7 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * Created on 9/15/2023
  * @since 1.0.0
  */
-public enum RepeatModeEnum {
+public enum RepeatModeEnum implements NameValueEnum {
 	SIGNAL_PATTERN("Signal Pattern", "10"),
 	ALL_WHITE("All White", "9"),
 	SCROLL("Scroll", "3"),
@@ -41,6 +43,7 @@ public enum RepeatModeEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -50,6 +53,7 @@ public enum RepeatModeEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.sound;
 
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.NameValueEnum;
+
 /**
  * Enum representing different sound modes.
  * Each enum constant has a name and a corresponding numeric value.
@@ -11,7 +13,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
  * @author Harry / Symphony Dev Team<br>
  * Created on 9/8/2023
  * @since 1.0.0
- */public enum SoundModeEnum {
+ */public enum SoundModeEnum implements NameValueEnum {
 	STANDARD("Standard", "0"),
 	MUSIC("Music", "1"),
 	MOVIE("Movie", "2"),
@@ -39,6 +41,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -48,6 +51,7 @@ package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.comm
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
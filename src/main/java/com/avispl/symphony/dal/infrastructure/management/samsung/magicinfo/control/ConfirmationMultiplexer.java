@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Gathers the outstanding control confirmations and polls them together.
+ * Waiters of the same request id share a single confirmation stream on the {@link ControlConfirmationTracker}, whose
+ * requests carry the ids of every device waiting at that moment. The per device results of each response are dispatched
+ * to their waiters, so N devices confirmed by one request cost one poll stream instead of N.
+ *
+ * @param <T> type of the confirmation result of a device
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ConfirmationMultiplexer<T> {
+	/**
+	 * Confirmation request for several devices of the same request id.
+	 *
+	 * @param <T> type of the confirmation result of a device
+	 */
+	@FunctionalInterface
+	public interface BatchRequest<T> {
+		/**
+		 * Sends the confirmation request.
+		 *
+		 * @param requestId request id returned by the control command
+		 * @param deviceIds ids of the devices to confirm
+		 * @return confirmation result per device id, or null while the control is not confirmed yet
+		 * @throws Exception if the confirmation request fails
+		 */
+		Map<String, T> poll(String requestId, Collection<String> deviceIds) throws Exception;
+	}
+
+	/**
+	 * Waiters of a request id, and whether a confirmation stream is running for them.
+	 */
+	private static class Batch<T> {
+		private final Map<String, List<CompletableFuture<T>>> waiters = new LinkedHashMap<>();
+		private boolean polling;
+	}
+
+	/**
+	 * Response of a confirmation request, together with the device ids it was sent for.
+	 */
+	private static class PollResult<T> {
+		private final Collection<String> deviceIds;
+		private final Map<String, T> results;
+
+		/**
+		 * Constructor for PollResult.
+		 *
+		 * @param deviceIds device ids the request was sent for
+		 * @param results confirmation result per device id
+		 */
+		private PollResult(Collection<String> deviceIds, Map<String, T> results) {
+			this.deviceIds = deviceIds;
+			this.results = results;
+		}
+	}
+
+	private final ControlConfirmationTracker tracker;
+	private final BatchRequest<T> batchRequest;
+	private final Map<String, Batch<T>> batches = new HashMap<>();
+
+	/**
+	 * Constructor for ConfirmationMultiplexer.
+	 *
+	 * @param tracker tracker polling the confirmation streams
+	 * @param batchRequest confirmation request for several devices
+	 */
+	public ConfirmationMultiplexer(ControlConfirmationTracker tracker, BatchRequest<T> batchRequest) {
+		this.tracker = tracker;
+		this.batchRequest = batchRequest;
+	}
+
+	/**
+	 * Waits for the confirmation of a control on a device.
+	 * The future fails with an {@link IllegalArgumentException} if the device is missing from a confirmed response.
+	 *
+	 * @param requestId request id returned by the control command
+	 * @param deviceId id of the device
+	 * @param timeout time in milliseconds after which the confirmation fails
+	 * @return future completed with the confirmation result of the device
+	 */
+	public CompletableFuture<T> confirm(String requestId, String deviceId, long timeout) {
+		CompletableFuture<T> waiter = new CompletableFuture<>();
+		synchronized (batches) {
+			Batch<T> batch = batches.computeIfAbsent(requestId, key -> new Batch<>());
+			batch.waiters.computeIfAbsent(deviceId, key -> new ArrayList<>()).add(waiter);
+			startPolling(requestId, batch, timeout);
+		}
+		return waiter;
+	}
+
+	/**
+	 * Starts a confirmation stream for the waiters of a request id, unless one is running already.
+	 *
+	 * @param requestId request id returned by the control command
+	 * @param batch waiters of the request id
+	 * @param timeout time in milliseconds after which the stream fails
+	 */
+	private void startPolling(String requestId, Batch<T> batch, long timeout) {
+		if (batch.polling || batch.waiters.isEmpty()) {
+			return;
+		}
+		batch.polling = true;
+		tracker.track(() -> {
+			List<String> deviceIds;
+			synchronized (batches) {
+				deviceIds = new ArrayList<>(batch.waiters.keySet());
+			}
+			Map<String, T> results = batchRequest.poll(requestId, deviceIds);
+			return results != null ? new PollResult<>(deviceIds, results) : null;
+		}, timeout).whenComplete((pollResult, error) -> dispatch(requestId, batch, pollResult, error, timeout));
+	}
+
+	/**
+	 * Completes the waiters covered by a finished confirmation stream. Waiters that joined after the last request of the
+	 * stream are not covered by it, a new stream is started for them.
+	 *
+	 * @param requestId request id returned by the control command
+	 * @param batch waiters of the request id
+	 * @param pollResult result of the stream, null if it failed
+	 * @param error failure of the stream, null if it succeeded
+	 * @param timeout time in milliseconds after which a new stream fails
+	 */
+	private void dispatch(String requestId, Batch<T> batch, PollResult<T> pollResult, Throwable error, long timeout) {
+		Map<String, List<CompletableFuture<T>>> completed = new HashMap<>();
+		synchronized (batches) {
+			batch.polling = false;
+			if (error != null) {
+				completed.putAll(batch.waiters);
+				batch.waiters.clear();
+			} else {
+				for (String deviceId : pollResult.deviceIds) {
+					List<CompletableFuture<T>> deviceWaiters = batch.waiters.remove(deviceId);
+					if (deviceWaiters != null) {
+						completed.put(deviceId, deviceWaiters);
+					}
+				}
+			}
+			if (batch.waiters.isEmpty()) {
+				batches.remove(requestId);
+			} else {
+				startPolling(requestId, batch, timeout);
+			}
+		}
+		for (Map.Entry<String, List<CompletableFuture<T>>> entry : completed.entrySet()) {
+			T result = pollResult != null ? pollResult.results.get(entry.getKey()) : null;
+			for (CompletableFuture<T> waiter : entry.getValue()) {
+				if (error != null) {
+					waiter.completeExceptionally(error);
+				} else if (result == null) {
+					waiter.completeExceptionally(new IllegalArgumentException(String.format("Device %s is missing from the confirmation of request %s", entry.getKey(), requestId)));
+				} else {
+					waiter.complete(result);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tracks the confirmation of controls sent to MagicInfo devices without blocking a thread while waiting.
+ * A confirmation request is polled right away, then again after an exponentially growing delay, until it reports a
+ * result, fails, or the timeout elapses. The outcome is published through a {@link CompletableFuture}, so callers can
+ * either wait for it or register completion callbacks.
+ *
+ * The delays are kept on a single process wide timer thread, the confirmation requests themselves run on the executor
+ * given to the tracker.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ControlConfirmationTracker {
+	private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "MagicInfo-confirmation-timer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Executor executor;
+	private final long initialDelay;
+	private final long maxDelay;
+
+	/**
+	 * Constructor for ControlConfirmationTracker.
+	 *
+	 * @param executor executor running the confirmation requests
+	 * @param initialDelay delay in milliseconds before the second confirmation request
+	 * @param maxDelay maximum delay in milliseconds between two confirmation requests
+	 */
+	public ControlConfirmationTracker(Executor executor, long initialDelay, long maxDelay) {
+		this.executor = executor;
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * Starts tracking a confirmation.
+	 *
+	 * @param confirmationRequest request returning the confirmation result, or null while the control is not confirmed yet
+	 * @param timeout time in milliseconds after which the confirmation fails with a {@link TimeoutException}
+	 * @param <T> type of the confirmation result
+	 * @return future completed with the confirmation result
+	 */
+	public <T> CompletableFuture<T> track(Callable<T> confirmationRequest, long timeout) {
+		CompletableFuture<T> confirmation = new CompletableFuture<>();
+		ScheduledFuture<?> timeoutFuture = TIMER.schedule(() -> confirmation.completeExceptionally(
+				new TimeoutException(String.format("The control was not confirmed within %s ms", timeout))), timeout, TimeUnit.MILLISECONDS);
+		confirmation.whenComplete((result, error) -> timeoutFuture.cancel(false));
+		poll(confirmation, confirmationRequest, initialDelay);
+		return confirmation;
+	}
+
+	/**
+	 * Sends the confirmation request and schedules the next one if the control is not confirmed yet.
+	 *
+	 * @param confirmation future of the confirmation result
+	 * @param confirmationRequest confirmation request
+	 * @param nextDelay delay in milliseconds before the next request
+	 * @param <T> type of the confirmation result
+	 */
+	private <T> void poll(CompletableFuture<T> confirmation, Callable<T> confirmationRequest, long nextDelay) {
+		try {
+			executor.execute(() -> {
+				if (confirmation.isDone()) {
+					return;
+				}
+				try {
+					T result = confirmationRequest.call();
+					if (result != null) {
+						confirmation.complete(result);
+					} else if (!confirmation.isDone()) {
+						TIMER.schedule(() -> poll(confirmation, confirmationRequest, Math.min(nextDelay * 2, maxDelay)), nextDelay, TimeUnit.MILLISECONDS);
+					}
+				} catch (Exception e) {
+					confirmation.completeExceptionally(e);
+				}
+			});
+		} catch (Exception e) {
+			confirmation.completeExceptionally(e);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks serializing the controls of a device.
+ * Every device id maps to one of a fixed number of fair locks, so controls of different devices run concurrently, while
+ * controls of the same device run one after another, in the order they arrived.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class DeviceLocks {
+	private final ReentrantLock[] stripes;
+
+	/**
+	 * Constructor for DeviceLocks.
+	 *
+	 * @param stripeCount number of locks shared by the devices
+	 */
+	public DeviceLocks(int stripeCount) {
+		stripes = new ReentrantLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new ReentrantLock(true);
+		}
+	}
+
+	/**
+	 * Retrieves the lock of a device.
+	 *
+	 * @param deviceId id of the device
+	 * @return lock of the device
+	 */
+	public ReentrantLock get(String deviceId) {
+		return stripes[getStripeIndex(deviceId)];
+	}
+
+	/**
+	 * Acquires the locks of several devices. Locks are always acquired in stripe order, so two callers locking overlapping
+	 * sets of devices can not deadlock.
+	 *
+	 * @param deviceIds ids of the devices
+	 * @return acquired locks, to be passed to {@link #unlockAll(List)}
+	 */
+	public List<ReentrantLock> lockAll(Collection<String> deviceIds) {
+		TreeSet<Integer> stripeIndexes = new TreeSet<>();
+		deviceIds.forEach(deviceId -> stripeIndexes.add(getStripeIndex(deviceId)));
+		List<ReentrantLock> locks = new ArrayList<>();
+		for (int stripeIndex : stripeIndexes) {
+			stripes[stripeIndex].lock();
+			locks.add(stripes[stripeIndex]);
+		}
+		return locks;
+	}
+
+	/**
+	 * Releases locks acquired by {@link #lockAll(Collection)}, in reverse order.
+	 *
+	 * @param locks acquired locks
+	 */
+	public void unlockAll(List<ReentrantLock> locks) {
+		for (int i = locks.size() - 1; i >= 0; i--) {
+			locks.get(i).unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the index of the lock of a device.
+	 *
+	 * @param deviceId id of the device
+	 * @return stripe index
+	 */
+	private int getStripeIndex(String deviceId) {
+		return (deviceId.hashCode() & Integer.MAX_VALUE) % stripes.length;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.DisplayInfo;
+
+/**
+ * Control that sets a single display field to a value, without depending on the current state of the device.
+ * The same field control can be sent to several devices in one update display command.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class FieldControl {
+	private final DisplayInfo property;
+	private final String requestValue;
+	private final String value;
+	private final String displayValue;
+
+	/**
+	 * Constructor for FieldControl.
+	 *
+	 * @param property controlled property
+	 * @param requestValue value sent to MagicInfo
+	 * @param value value of the controllable property after the control
+	 * @param displayValue value shown in error messages
+	 */
+	public FieldControl(DisplayInfo property, String requestValue, String value, String displayValue) {
+		this.property = property;
+		this.requestValue = requestValue;
+		this.value = value;
+		this.displayValue = displayValue;
+	}
+
+	/**
+	 * Retrieves {@link #property}
+	 *
+	 * @return value of {@link #property}
+	 */
+	public DisplayInfo getProperty() {
+		return property;
+	}
+
+	/**
+	 * Retrieves {@link #requestValue}
+	 *
+	 * @return value of {@link #requestValue}
+	 */
+	public String getRequestValue() {
+		return requestValue;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #displayValue}
+	 *
+	 * @return value of {@link #displayValue}
+	 */
+	public String getDisplayValue() {
+		return displayValue;
+	}
+}
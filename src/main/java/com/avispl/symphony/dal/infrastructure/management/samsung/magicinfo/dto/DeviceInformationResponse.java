@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.dto;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.MagicInfoConstant;
+
+/**
+ * Response of the general information and display information commands, read as a stream.
+ * The items of items.successList are read one device at a time, keeping only the given top level fields of each of
+ * them, and handed to the {@link DeviceHandler} of the {@link #read(Set, DeviceHandler, Callable)} call sending the
+ * request, so the response is never held in memory as a whole. The response itself only tells whether it carried a
+ * success list and how many devices it had.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@JsonDeserialize(using = DeviceInformationResponse.Reader.class)
+public class DeviceInformationResponse {
+	/**
+	 * Receives the devices of a response, while it is being read.
+	 */
+	@FunctionalInterface
+	public interface DeviceHandler {
+		/**
+		 * Handles the information of a device.
+		 *
+		 * @param device information of the device, restricted to the fields read
+		 */
+		void handle(ObjectNode device);
+	}
+
+	/**
+	 * Fields to keep and handler of the responses read by the current thread.
+	 */
+	private static class ReadContext {
+		private final Set<String> fields;
+		private final DeviceHandler handler;
+
+		/**
+		 * Constructor for ReadContext.
+		 *
+		 * @param fields top level fields kept for every device
+		 * @param handler handler of the devices
+		 */
+		private ReadContext(Set<String> fields, DeviceHandler handler) {
+			this.fields = fields;
+			this.handler = handler;
+		}
+	}
+
+	private static final ThreadLocal<ReadContext> READ_CONTEXT = new ThreadLocal<>();
+
+	private final boolean successListPresent;
+	private final int deviceCount;
+
+	/**
+	 * Constructor for DeviceInformationResponse.
+	 *
+	 * @param successListPresent whether the response carried items.successList
+	 * @param deviceCount number of devices handed to the handler
+	 */
+	public DeviceInformationResponse(boolean successListPresent, int deviceCount) {
+		this.successListPresent = successListPresent;
+		this.deviceCount = deviceCount;
+	}
+
+	/**
+	 * Sends a request whose {@link DeviceInformationResponse} is read on the calling thread, handing its devices to the
+	 * given handler.
+	 *
+	 * @param fields top level fields kept for every device
+	 * @param handler handler of the devices
+	 * @param request request to send
+	 * @param <T> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails
+	 */
+	public static <T> T read(Set<String> fields, DeviceHandler handler, Callable<T> request) throws Exception {
+		ReadContext previous = READ_CONTEXT.get();
+		READ_CONTEXT.set(new ReadContext(fields, handler));
+		try {
+			return request.call();
+		} finally {
+			if (previous != null) {
+				READ_CONTEXT.set(previous);
+			} else {
+				READ_CONTEXT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Retrieves {@link #successListPresent}
+	 *
+	 * @return value of {@link #successListPresent}
+	 */
+	public boolean isSuccessListPresent() {
+		return successListPresent;
+	}
+
+	/**
+	 * Retrieves {@link #deviceCount}
+	 *
+	 * @return value of {@link #deviceCount}
+	 */
+	public int getDeviceCount() {
+		return deviceCount;
+	}
+
+	/**
+	 * Streaming deserializer of {@link DeviceInformationResponse}.
+	 */
+	public static class Reader extends JsonDeserializer<DeviceInformationResponse> {
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @throws IllegalStateException if the response is not read within {@link #read(Set, DeviceHandler, Callable)}
+		 */
+		@Override
+		public DeviceInformationResponse deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			ReadContext readContext = READ_CONTEXT.get();
+			if (readContext == null) {
+				throw new IllegalStateException("Device information response read without a device handler");
+			}
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				return new DeviceInformationResponse(false, 0);
+			}
+			boolean successListPresent = false;
+			int deviceCount = 0;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				if (parser.nextToken() != JsonToken.START_OBJECT || !MagicInfoConstant.ITEMS.equals(field)) {
+					parser.skipChildren();
+					continue;
+				}
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String itemsField = parser.getCurrentName();
+					JsonToken token = parser.nextToken();
+					if (!MagicInfoConstant.SUCCESS_LIST.equals(itemsField)) {
+						parser.skipChildren();
+						continue;
+					}
+					successListPresent = true;
+					if (token != JsonToken.START_ARRAY) {
+						parser.skipChildren();
+						continue;
+					}
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						if (parser.currentToken() == JsonToken.START_OBJECT) {
+							readContext.handler.handle(readDevice(parser, context, readContext.fields));
+							deviceCount++;
+						} else {
+							parser.skipChildren();
+						}
+					}
+				}
+			}
+			return new DeviceInformationResponse(successListPresent, deviceCount);
+		}
+
+		/**
+		 * Reads the information of a device, skipping the fields that are not kept.
+		 *
+		 * @param parser parser positioned on the start of the device object
+		 * @param context deserialization context
+		 * @param fields top level fields kept
+		 * @return information of the device
+		 * @throws IOException if the device can not be read
+		 */
+		private ObjectNode readDevice(JsonParser parser, DeserializationContext context, Set<String> fields) throws IOException {
+			ObjectNode device = JsonNodeFactory.instance.objectNode();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				parser.nextToken();
+				if (fields.contains(field)) {
+					device.set(field, context.readTree(parser));
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return device;
+		}
+	}
+}
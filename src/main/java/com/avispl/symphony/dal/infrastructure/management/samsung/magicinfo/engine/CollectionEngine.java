@@ -0,0 +1,533 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Process wide, event driven engine running the {@link CollectionTask collection tasks} of every aggregator instance.
+ * Instances {@link #register(String, int, int) register} with the engine and {@link Registration#deregister() deregister}
+ * when they are destroyed.
+ *
+ * A single dispatcher thread parks until the earliest due timestamp of the enabled tasks, or until it is signalled. When
+ * no task is enabled, e.g. while every aggregator is paused, it parks without a timeout and only resumes on a signal.
+ * Due tasks are handed to a bounded collection pool in round robin order across registrations, so a busy instance can not
+ * starve the others, and a task never runs concurrently with itself.
+ *
+ * API requests of the collection tasks are submitted through {@link Registration#submit(Callable)} and run on a separate
+ * bounded request pool, with at most the configured number of requests in flight per host and port, no matter how many
+ * instances target it. When the instances of a host and port configure different limits, the smallest one applies.
+ * Requests of controls and their confirmations, submitted through {@link Registration#submitPriority(Callable)}, share
+ * the same limit but are started before any queued collection request, so they do not wait for a whole collection
+ * cycle. Parallel controls run on a third bounded pool, since they wait for the requests they submit.
+ * Every pool lets idle threads expire, so the thread count follows the load instead of the number of registered instances.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public final class CollectionEngine {
+	/**
+	 * Registration of an aggregator instance with the engine.
+	 */
+	public final class Registration {
+		private final String host;
+		private final String hostKey;
+		private final int maxConcurrentRequests;
+		private final List<CollectionTask> tasks = new CopyOnWriteArrayList<>();
+		private final Set<Future<?>> pendingRequests = ConcurrentHashMap.newKeySet();
+		private volatile boolean active = true;
+
+		/**
+		 * Constructor for Registration.
+		 *
+		 * @param host host the instance sends its requests to
+		 * @param port port the instance sends its requests to
+		 * @param maxConcurrentRequests maximum number of requests in flight to the host and port
+		 */
+		private Registration(String host, int port, int maxConcurrentRequests) {
+			this.host = host;
+			this.hostKey = host + ":" + port;
+			this.maxConcurrentRequests = maxConcurrentRequests;
+		}
+
+		/**
+		 * Registers a collection task.
+		 *
+		 * @param task task to run
+		 */
+		public void register(CollectionTask task) {
+			tasks.add(task);
+			signal();
+		}
+
+		/**
+		 * Wakes up the engine, so it checks again which tasks are enabled and due.
+		 */
+		public void signal() {
+			CollectionEngine.this.signal();
+		}
+
+		/**
+		 * Makes the task with the given name due right away and wakes up the engine.
+		 *
+		 * @param name name of the task
+		 */
+		public void requestRefresh(String name) {
+			for (CollectionTask task : tasks) {
+				if (task.getName().equals(name)) {
+					task.requestRefresh();
+				}
+			}
+			signal();
+		}
+
+		/**
+		 * Submits an API request of this instance. The request waits in the queue of its host while the host already has
+		 * the maximum number of requests in flight.
+		 *
+		 * @param request request to run
+		 * @param <T> type of the request result
+		 * @return future of the request result
+		 * @throws RejectedExecutionException if the instance is deregistered
+		 */
+		public <T> Future<T> submit(Callable<T> request) {
+			FutureTask<T> future = createPendingFuture(request);
+			getHostLimiter(hostKey).enqueue(future, false);
+			return future;
+		}
+
+		/**
+		 * Submits an API request of a control of this instance, e.g. a confirmation poll. The request counts against the
+		 * limit of its host like any other request, but it is started before the queued collection requests.
+		 *
+		 * @param request request to run
+		 * @param <T> type of the request result
+		 * @return future of the request result
+		 * @throws RejectedExecutionException if the instance is deregistered
+		 */
+		public <T> Future<T> submitPriority(Callable<T> request) {
+			FutureTask<T> future = createPendingFuture(request);
+			getHostLimiter(hostKey).enqueue(future, true);
+			return future;
+		}
+
+		/**
+		 * Submits a control of this instance. Controls run on their own pool, since they wait for the requests they submit.
+		 *
+		 * @param control control to run
+		 * @param <T> type of the control result
+		 * @return future of the control result
+		 * @throws RejectedExecutionException if the instance is deregistered
+		 */
+		public <T> Future<T> submitControl(Callable<T> control) {
+			FutureTask<T> future = createPendingFuture(control);
+			controlExecutor.execute(future);
+			return future;
+		}
+
+		/**
+		 * Creates a future that is cancelled when the instance is deregistered.
+		 *
+		 * @param callable work of the future
+		 * @param <T> type of the work result
+		 * @return pending future
+		 * @throws RejectedExecutionException if the instance is deregistered
+		 */
+		private <T> FutureTask<T> createPendingFuture(Callable<T> callable) {
+			if (!active) {
+				throw new RejectedExecutionException(String.format("Collection engine registration of host %s is closed", host));
+			}
+			FutureTask<T> future = new FutureTask<T>(callable) {
+				@Override
+				protected void done() {
+					pendingRequests.remove(this);
+				}
+			};
+			pendingRequests.add(future);
+			return future;
+		}
+
+		/**
+		 * Removes every task of the instance from the engine and cancels its pending requests.
+		 */
+		public void deregister() {
+			active = false;
+			tasks.clear();
+			pendingRequests.forEach(future -> future.cancel(true));
+			pendingRequests.clear();
+			CollectionEngine.this.deregister(this);
+		}
+	}
+
+	/**
+	 * Queues of the requests sent to a host and port, starting at most {@link #getMaxConcurrentRequests()} of them at
+	 * the same time. Priority requests are started before the other queued requests.
+	 */
+	private final class HostLimiter {
+		private final List<Registration> registrations = new ArrayList<>();
+		private final Deque<Runnable> priorityQueue = new ArrayDeque<>();
+		private final Deque<Runnable> queue = new ArrayDeque<>();
+		private int runningRequests;
+
+		/**
+		 * Retrieves the maximum number of requests in flight, the smallest limit of the registrations of the host.
+		 *
+		 * @return maximum number of requests in flight
+		 */
+		private synchronized int getMaxConcurrentRequests() {
+			return registrations.stream().mapToInt(registration -> registration.maxConcurrentRequests).min().orElse(1);
+		}
+
+		/**
+		 * Adds a registration sharing the limit of the host.
+		 *
+		 * @param registration registration to add
+		 */
+		private synchronized void addRegistration(Registration registration) {
+			int maxConcurrentRequests = getMaxConcurrentRequests();
+			if (!registrations.isEmpty() && registration.maxConcurrentRequests != maxConcurrentRequests) {
+				logger.warn(String.format("Instances of %s configure different maximum numbers of concurrent requests (%s and %s), the smallest one applies",
+						registration.hostKey, maxConcurrentRequests, registration.maxConcurrentRequests));
+			}
+			registrations.add(registration);
+		}
+
+		/**
+		 * Removes a registration of the host, its limit does not apply anymore.
+		 *
+		 * @param registration registration to remove
+		 * @return true if no registration of the host is left
+		 */
+		private synchronized boolean removeRegistration(Registration registration) {
+			registrations.remove(registration);
+			startRequests();
+			return registrations.isEmpty();
+		}
+
+		/**
+		 * Adds a request to the queue of the host.
+		 *
+		 * @param request request to run
+		 * @param priority whether the request is started before the other queued requests
+		 */
+		private synchronized void enqueue(Runnable request, boolean priority) {
+			(priority ? priorityQueue : queue).add(request);
+			startRequests();
+		}
+
+		/**
+		 * Starts queued requests while the host has free capacity, priority requests first.
+		 */
+		private synchronized void startRequests() {
+			int maxConcurrentRequests = getMaxConcurrentRequests();
+			while (runningRequests < maxConcurrentRequests && (!priorityQueue.isEmpty() || !queue.isEmpty())) {
+				Runnable request = !priorityQueue.isEmpty() ? priorityQueue.poll() : queue.poll();
+				runningRequests++;
+				requestExecutor.execute(() -> {
+					try {
+						request.run();
+					} finally {
+						finishRequest();
+					}
+				});
+			}
+		}
+
+		/**
+		 * Releases the capacity of a finished request.
+		 */
+		private synchronized void finishRequest() {
+			runningRequests--;
+			startRequests();
+		}
+	}
+
+	private static final int MAX_COLLECTION_THREADS = 8;
+	private static final int MAX_REQUEST_THREADS = 32;
+	private static final int MAX_CONTROL_THREADS = 16;
+	private static final long THREAD_KEEP_ALIVE = 60;
+	private static final CollectionEngine INSTANCE = new CollectionEngine();
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition wakeUp = lock.newCondition();
+	private final List<Registration> registrations = new ArrayList<>();
+	private final Map<String, HostLimiter> hostLimiters = new HashMap<>();
+	private final ThreadPoolExecutor collectionExecutor = createExecutor("MagicInfo-collection", MAX_COLLECTION_THREADS);
+	private final ThreadPoolExecutor requestExecutor = createExecutor("MagicInfo-request", MAX_REQUEST_THREADS);
+	private final ThreadPoolExecutor controlExecutor = createExecutor("MagicInfo-control", MAX_CONTROL_THREADS);
+	private boolean signalled;
+	private int nextRegistrationIndex;
+	private Thread dispatcher;
+
+	/**
+	 * Constructor for CollectionEngine.
+	 */
+	private CollectionEngine() {
+	}
+
+	/**
+	 * Retrieves the process wide engine
+	 *
+	 * @return collection engine
+	 */
+	public static CollectionEngine getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Registers an aggregator instance and starts the dispatcher thread if it is the first one.
+	 *
+	 * @param host host the instance sends its requests to
+	 * @param port port the instance sends its requests to
+	 * @param maxConcurrentRequests maximum number of requests in flight to the host and port, the smallest limit of the
+	 * registrations of the same host and port applies
+	 * @return registration of the instance
+	 */
+	public Registration register(String host, int port, int maxConcurrentRequests) {
+		lock.lock();
+		try {
+			Registration registration = new Registration(host, port, maxConcurrentRequests);
+			registrations.add(registration);
+			hostLimiters.computeIfAbsent(registration.hostKey, key -> new HostLimiter()).addRegistration(registration);
+			if (dispatcher == null) {
+				dispatcher = new Thread(this::dispatch, "MagicInfo-collection-dispatcher");
+				dispatcher.setDaemon(true);
+				dispatcher.start();
+			}
+			return registration;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes a registration and stops the dispatcher thread if it was the last one.
+	 *
+	 * @param registration registration to remove
+	 */
+	private void deregister(Registration registration) {
+		lock.lock();
+		try {
+			if (!registrations.remove(registration)) {
+				return;
+			}
+			HostLimiter hostLimiter = hostLimiters.get(registration.hostKey);
+			if (hostLimiter != null && hostLimiter.removeRegistration(registration)) {
+				hostLimiters.remove(registration.hostKey);
+			}
+			if (registrations.isEmpty() && dispatcher != null) {
+				dispatcher.interrupt();
+				dispatcher = null;
+			}
+			signalled = true;
+			wakeUp.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the request queue of a host and port.
+	 *
+	 * @param hostKey host and port of the requests
+	 * @return request queue of the host and port
+	 */
+	private HostLimiter getHostLimiter(String hostKey) {
+		lock.lock();
+		try {
+			HostLimiter hostLimiter = hostLimiters.get(hostKey);
+			if (hostLimiter == null) {
+				throw new RejectedExecutionException(String.format("Host %s is not registered with the collection engine", hostKey));
+			}
+			return hostLimiter;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wakes up the dispatcher, so it checks again which tasks are enabled and due.
+	 */
+	private void signal() {
+		lock.lock();
+		try {
+			signalled = true;
+			wakeUp.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Hands due tasks to the collection pool until the dispatcher thread is stopped.
+	 */
+	private void dispatch() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				for (CollectionTask task : awaitDueTasks()) {
+					try {
+						collectionExecutor.execute(() -> {
+							try {
+								task.run();
+							} catch (Exception e) {
+								logger.error(String.format("Error while running collection task %s", task.getName()), e);
+							} finally {
+								task.setRunning(false);
+								signal();
+							}
+						});
+					} catch (RejectedExecutionException e) {
+						task.setRunning(false);
+						logger.error(String.format("Collection task %s was rejected", task.getName()), e);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Parks the dispatcher thread until at least one enabled task that is not running is due.
+	 * Due tasks are returned interleaved across registrations, starting from a different registration on every call,
+	 * and are marked as running.
+	 *
+	 * @return due tasks in dispatch order
+	 * @throws InterruptedException if the dispatcher is stopped while waiting
+	 */
+	private List<CollectionTask> awaitDueTasks() throws InterruptedException {
+		lock.lock();
+		try {
+			while (true) {
+				long currentTimestamp = System.currentTimeMillis();
+				long nextRunTimestamp = Long.MAX_VALUE;
+				List<List<CollectionTask>> dueTasksPerRegistration = new ArrayList<>();
+				int registrationCount = registrations.size();
+				for (int i = 0; i < registrationCount; i++) {
+					Registration registration = registrations.get((nextRegistrationIndex + i) % registrationCount);
+					List<CollectionTask> dueTasks = new ArrayList<>();
+					for (CollectionTask task : registration.tasks) {
+						if (task.isRunning() || !task.isEnabled()) {
+							continue;
+						}
+						if (task.getNextRunTimestamp() <= currentTimestamp) {
+							dueTasks.add(task);
+						} else {
+							nextRunTimestamp = Math.min(nextRunTimestamp, task.getNextRunTimestamp());
+						}
+					}
+					if (!dueTasks.isEmpty()) {
+						dueTasksPerRegistration.add(dueTasks);
+					}
+				}
+				if (!dueTasksPerRegistration.isEmpty()) {
+					nextRegistrationIndex = registrationCount > 0 ? (nextRegistrationIndex + 1) % registrationCount : 0;
+					List<CollectionTask> dueTasks = interleave(dueTasksPerRegistration);
+					dueTasks.forEach(task -> task.setRunning(true));
+					return dueTasks;
+				}
+				if (!signalled) {
+					if (nextRunTimestamp == Long.MAX_VALUE) {
+						wakeUp.await();
+					} else {
+						wakeUp.await(nextRunTimestamp - currentTimestamp, TimeUnit.MILLISECONDS);
+					}
+				}
+				signalled = false;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Interleaves the due tasks of the registrations, taking one task of every registration in turn.
+	 *
+	 * @param dueTasksPerRegistration due tasks grouped by registration
+	 * @return due tasks in dispatch order
+	 */
+	private List<CollectionTask> interleave(List<List<CollectionTask>> dueTasksPerRegistration) {
+		int dueTaskCount = dueTasksPerRegistration.stream().mapToInt(List::size).sum();
+		List<CollectionTask> dueTasks = new ArrayList<>();
+		for (int position = 0; dueTasks.size() < dueTaskCount; position++) {
+			for (List<CollectionTask> registrationTasks : dueTasksPerRegistration) {
+				if (position < registrationTasks.size()) {
+					dueTasks.add(registrationTasks.get(position));
+				}
+			}
+		}
+		return dueTasks;
+	}
+
+	/**
+	 * Creates a bounded pool of daemon threads that expire when they are idle.
+	 * A new thread is only started when every thread of the pool is busy, work is queued once the pool is at its maximum size.
+	 *
+	 * @param name prefix of the thread names
+	 * @param maxThreads maximum number of threads
+	 * @return thread pool
+	 */
+	private static ThreadPoolExecutor createExecutor(String name, int maxThreads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ScalingQueue queue = new ScalingQueue();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(0, maxThreads, THREAD_KEEP_ALIVE, TimeUnit.SECONDS, queue, threadFactory, (runnable, pool) -> {
+			if (pool.isShutdown()) {
+				throw new RejectedExecutionException("Collection engine is shut down");
+			}
+			queue.add(runnable);
+		});
+		queue.executor = executor;
+		return executor;
+	}
+
+	/**
+	 * Work queue that refuses work while the pool can still start a thread and has no idle one, so the pool grows with the
+	 * load before work is queued. Work refused by a full pool is added by the rejection handler of {@link #createExecutor(String, int)}.
+	 */
+	private static class ScalingQueue extends LinkedBlockingQueue<Runnable> {
+		private static final long serialVersionUID = 1L;
+		private transient ThreadPoolExecutor executor;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean offer(Runnable runnable) {
+			if (executor != null && executor.getPoolSize() < executor.getMaximumPoolSize() && executor.getActiveCount() >= executor.getPoolSize()) {
+				return false;
+			}
+			return super.offer(runnable);
+		}
+	}
+}
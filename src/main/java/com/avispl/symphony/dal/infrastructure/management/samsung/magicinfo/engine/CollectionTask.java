@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Periodic data collection task run by {@link CollectionEngine}, a task never runs concurrently with itself.
+ * A task is due when its interval has elapsed since the end of its last run, or when a refresh was requested.
+ * A due task only runs while it is enabled, a disabled task does not wake up the engine at all.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CollectionTask {
+	private final String name;
+	private final LongSupplier interval;
+	private final BooleanSupplier enabled;
+	private final Runnable action;
+	private volatile long nextRunTimestamp;
+	private volatile boolean refreshRequested;
+	private volatile boolean running;
+
+	/**
+	 * Constructor for CollectionTask.
+	 *
+	 * @param name name of the task, used for logging
+	 * @param interval interval in milliseconds between the end of a run and the start of the next one
+	 * @param initialDelay delay in milliseconds before the first run
+	 * @param enabled whether the task may run at the moment
+	 * @param action collection action
+	 */
+	public CollectionTask(String name, LongSupplier interval, long initialDelay, BooleanSupplier enabled, Runnable action) {
+		this.name = name;
+		this.interval = interval;
+		this.enabled = enabled;
+		this.action = action;
+		this.nextRunTimestamp = System.currentTimeMillis() + initialDelay;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Checks whether the task may run at the moment.
+	 *
+	 * @return true if the task is enabled
+	 */
+	boolean isEnabled() {
+		return enabled.getAsBoolean();
+	}
+
+	/**
+	 * Retrieves the timestamp the task is due at.
+	 *
+	 * @return timestamp in milliseconds, 0 if a refresh was requested
+	 */
+	long getNextRunTimestamp() {
+		return refreshRequested ? 0 : nextRunTimestamp;
+	}
+
+	/**
+	 * Checks whether the task is running or waiting for a thread of the engine.
+	 *
+	 * @return true if the task was handed to the engine and did not finish yet
+	 */
+	boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Sets {@link #running} value
+	 *
+	 * @param running new value of {@link #running}
+	 */
+	void setRunning(boolean running) {
+		this.running = running;
+	}
+
+	/**
+	 * Marks the task as due right away.
+	 */
+	void requestRefresh() {
+		refreshRequested = true;
+	}
+
+	/**
+	 * Runs the collection action and computes the next due timestamp.
+	 * A refresh requested while the action is running makes the task due again right away.
+	 */
+	void run() {
+		refreshRequested = false;
+		try {
+			action.run();
+		} finally {
+			nextRunTimestamp = System.currentTimeMillis() + interval.getAsLong();
+		}
+	}
+}
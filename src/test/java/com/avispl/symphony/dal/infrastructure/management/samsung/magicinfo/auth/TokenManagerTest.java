@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the token sharing and lifetime learning of {@link TokenManager}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class TokenManagerTest {
+	private static final long INITIAL_LIFETIME = 1000;
+	private static final long MIN_LIFETIME = 100;
+	private static final long MAX_LIFETIME = 10000;
+
+	private final AtomicLong clock = new AtomicLong(1_000_000);
+	private final AtomicInteger logins = new AtomicInteger();
+
+	/**
+	 * Creates a token manager on the test clock, whose logins return token-1, token-2... with the given lifetime.
+	 *
+	 * @param reportedLifetime lifetime reported by the server, 0 if it is unknown
+	 * @return token manager
+	 */
+	private TokenManager createTokenManager(long reportedLifetime) {
+		return new TokenManager(() -> new TokenManager.IssuedToken("token-" + logins.incrementAndGet(), reportedLifetime), INITIAL_LIFETIME, MIN_LIFETIME,
+				MAX_LIFETIME, 0, 0, clock::get);
+	}
+
+	/**
+	 * Requests a token, lets it be used for the given time and invalidates it.
+	 *
+	 * @param tokenManager token manager
+	 * @param age age of the token when it is rejected
+	 */
+	private void rejectAt(TokenManager tokenManager, long age) throws Exception {
+		String token = tokenManager.getToken();
+		clock.addAndGet(age);
+		tokenManager.invalidate(token);
+	}
+
+	/**
+	 * Callers requesting a token while none is valid share a single login
+	 */
+	@Test
+	void testConcurrentCallersShareLogin() throws Exception {
+		CountDownLatch loginStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TokenManager tokenManager = new TokenManager(() -> {
+			logins.incrementAndGet();
+			loginStarted.countDown();
+			release.await();
+			return new TokenManager.IssuedToken("shared", 0);
+		}, INITIAL_LIFETIME, MIN_LIFETIME, MAX_LIFETIME, 0, 0, clock::get);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> tokens = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				tokens.add(executor.submit(tokenManager::getToken));
+			}
+			assertTrue(loginStarted.await(5, TimeUnit.SECONDS));
+			// let every caller reach the pending login before it completes
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<String> token : tokens) {
+				assertEquals("shared", token.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, logins.get());
+	}
+
+	/**
+	 * Invalidating a token that was replaced already keeps the current token
+	 */
+	@Test
+	void testInvalidateReplacedToken() throws Exception {
+		TokenManager tokenManager = createTokenManager(0);
+		assertEquals("token-1", tokenManager.getToken());
+		tokenManager.invalidate("token-1");
+		assertEquals("token-2", tokenManager.getToken());
+
+		tokenManager.invalidate("token-1");
+		tokenManager.invalidate(null);
+		assertEquals("token-2", tokenManager.getToken());
+		assertEquals(2, logins.get());
+	}
+
+	/**
+	 * The lifetime grows after several tokens in a row were replaced without being rejected
+	 */
+	@Test
+	void testLifetimeGrows() throws Exception {
+		TokenManager tokenManager = createTokenManager(0);
+		tokenManager.getToken();
+		for (int i = 0; i < 3; i++) {
+			clock.addAndGet(tokenManager.getLifetime());
+			tokenManager.refresh();
+		}
+		assertEquals(4, logins.get());
+		assertEquals(INITIAL_LIFETIME + INITIAL_LIFETIME / 4, tokenManager.getLifetime());
+	}
+
+	/**
+	 * A single early rejection is ignored, repeated rejections shorten the lifetime halfway to the rejection age
+	 */
+	@Test
+	void testLifetimeShrinksGradually() throws Exception {
+		TokenManager tokenManager = createTokenManager(0);
+		rejectAt(tokenManager, 200);
+		assertEquals(INITIAL_LIFETIME, tokenManager.getLifetime());
+
+		rejectAt(tokenManager, 200);
+		assertEquals(600, tokenManager.getLifetime());
+
+		rejectAt(tokenManager, 200);
+		assertEquals(600, tokenManager.getLifetime());
+		rejectAt(tokenManager, 200);
+		assertEquals(400, tokenManager.getLifetime());
+
+		for (int i = 0; i < 20; i++) {
+			rejectAt(tokenManager, 0);
+		}
+		assertEquals(MIN_LIFETIME, tokenManager.getLifetime());
+	}
+
+	/**
+	 * A token replaced without being rejected resets the count of rejected tokens
+	 */
+	@Test
+	void testReplacedTokenResetsRejections() throws Exception {
+		TokenManager tokenManager = createTokenManager(0);
+		rejectAt(tokenManager, 200);
+		tokenManager.getToken();
+		clock.addAndGet(tokenManager.getLifetime());
+		tokenManager.refresh();
+		rejectAt(tokenManager, 200);
+		assertEquals(INITIAL_LIFETIME, tokenManager.getLifetime());
+	}
+
+	/**
+	 * A lifetime reported by the server is never shortened by rejections
+	 */
+	@Test
+	void testReportedLifetimeKept() throws Exception {
+		TokenManager tokenManager = createTokenManager(5000);
+		for (int i = 0; i < 5; i++) {
+			rejectAt(tokenManager, 200);
+		}
+		assertEquals(5000, tokenManager.getLifetime());
+	}
+}
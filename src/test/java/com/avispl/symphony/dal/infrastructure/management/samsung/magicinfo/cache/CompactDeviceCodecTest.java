@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.MagicInfoConstant;
+
+/**
+ * Unit tests of the encoding of {@link CompactDeviceCodec}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CompactDeviceCodecTest {
+	private static final int LONG_VALUE_LENGTH = 100 * 1024;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private CompactDeviceCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		codec = new CompactDeviceCodec(Arrays.asList(Arrays.asList("generalConf", "deviceId"), Arrays.asList("generalConf", "power"),
+				Collections.singletonList("value"), Arrays.asList("mntAuto", "maxTime")));
+	}
+
+	/**
+	 * Encodes a device and decodes it again.
+	 *
+	 * @param codec codec to use
+	 * @param node raw information of the device
+	 * @return decoded information of the device
+	 */
+	private JsonNode roundTrip(CompactDeviceCodec codec, JsonNode node) {
+		return codec.decode(codec.encode(node));
+	}
+
+	/**
+	 * Writes a codec and reads it again.
+	 *
+	 * @param codec codec to write
+	 * @return codec read
+	 * @throws IOException if the codec can not be written or read
+	 */
+	private CompactDeviceCodec writeAndRead(CompactDeviceCodec codec) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		codec.write(new DataOutputStream(bytes));
+		return CompactDeviceCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+	}
+
+	/**
+	 * Creates the raw information of a device, holding the given value under the value field.
+	 *
+	 * @param value value of the value field
+	 * @return raw information of the device
+	 */
+	private ObjectNode createDevice(JsonNode value) {
+		ObjectNode node = objectMapper.createObjectNode();
+		node.putObject("generalConf").put("deviceId", "11-22-33-44-55-66").put("power", "true");
+		node.set("value", value);
+		return node;
+	}
+
+	/**
+	 * Creates a text of the given length, with characters encoded on several UTF-8 bytes.
+	 *
+	 * @param length length of the text
+	 * @return text
+	 */
+	private String createLongText(int length) {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append(i % 10 == 0 ? 'é' : (char) ('a' + i % 26));
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Decoding keeps the referenced fields with their original values and drops the other ones
+	 */
+	@Test
+	void testReferencedFieldsOnly() {
+		ObjectNode node = createDevice(objectMapper.getNodeFactory().textNode("text"));
+		((ObjectNode) node.get("generalConf")).put("unused", "unused");
+		node.put("unused", 1);
+		node.putObject("mntAuto").put("maxTime", "3").put("minTime", "1");
+
+		ObjectNode expected = createDevice(objectMapper.getNodeFactory().textNode("text"));
+		expected.putObject("mntAuto").put("maxTime", "3");
+		assertEquals(expected, roundTrip(codec, node));
+	}
+
+	/**
+	 * Null and boolean values are decoded with their type
+	 */
+	@Test
+	void testNullsAndBooleans() {
+		assertEquals(createDevice(objectMapper.getNodeFactory().nullNode()), roundTrip(codec, createDevice(objectMapper.getNodeFactory().nullNode())));
+		assertEquals(createDevice(objectMapper.getNodeFactory().booleanNode(true)), roundTrip(codec, createDevice(objectMapper.getNodeFactory().booleanNode(true))));
+		assertEquals(createDevice(objectMapper.getNodeFactory().booleanNode(false)), roundTrip(codec, createDevice(objectMapper.getNodeFactory().booleanNode(false))));
+
+		ObjectNode nullParent = createDevice(objectMapper.getNodeFactory().nullNode());
+		nullParent.putNull("mntAuto");
+		assertEquals(createDevice(objectMapper.getNodeFactory().nullNode()), roundTrip(codec, nullParent));
+	}
+
+	/**
+	 * Integer, long and double values at their boundaries are decoded with their type and value
+	 */
+	@Test
+	void testNumberBoundaries() {
+		List<JsonNode> values = new ArrayList<>();
+		for (int value : new int[] { 0, 1, -1, 63, 64, -64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+			values.add(objectMapper.getNodeFactory().numberNode(value));
+		}
+		for (long value : new long[] { Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			values.add(objectMapper.getNodeFactory().numberNode(value));
+		}
+		for (double value : new double[] { 0.0, -0.0, 0.5, -1.25, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE }) {
+			values.add(objectMapper.getNodeFactory().numberNode(value));
+		}
+		for (JsonNode value : values) {
+			JsonNode decoded = roundTrip(codec, createDevice(value)).get("value");
+			assertEquals(value, decoded);
+			assertEquals(value.getNodeType(), decoded.getNodeType());
+			assertEquals(value.numberType(), decoded.numberType());
+		}
+	}
+
+	/**
+	 * Text values past the dictionary size are stored inline, and every record stays decodable by the codec read back
+	 */
+	@Test
+	void testDictionaryOverflow() throws IOException {
+		List<byte[]> records = new ArrayList<>();
+		int count = CompactDeviceCodec.MAX_DICTIONARY_SIZE + 44;
+		for (int i = 0; i < count; i++) {
+			records.add(codec.encode(createDevice(objectMapper.getNodeFactory().textNode("value-" + i))));
+		}
+		CompactDeviceCodec readCodec = writeAndRead(codec);
+		for (int i = 0; i < count; i++) {
+			JsonNode expected = createDevice(objectMapper.getNodeFactory().textNode("value-" + i));
+			assertEquals(expected, codec.decode(records.get(i)));
+			assertEquals(expected, readCodec.decode(records.get(i)));
+		}
+		assertEquals(codec.getPaths(), readCodec.getPaths());
+	}
+
+	/**
+	 * Text and JSON values longer than 64KB are decoded unchanged, including by the codec read back
+	 */
+	@Test
+	void testLongValues() throws IOException {
+		String text = createLongText(LONG_VALUE_LENGTH);
+		ObjectNode json = objectMapper.createObjectNode();
+		json.put("text", text);
+		json.putArray("items").add(1).add(text);
+
+		byte[] textRecord = codec.encode(createDevice(objectMapper.getNodeFactory().textNode(text)));
+		byte[] jsonRecord = codec.encode(createDevice(json));
+		CompactDeviceCodec readCodec = writeAndRead(codec);
+		assertEquals(createDevice(objectMapper.getNodeFactory().textNode(text)), readCodec.decode(textRecord));
+		assertEquals(createDevice(json), readCodec.decode(jsonRecord));
+		assertEquals(createDevice(json), codec.decode(jsonRecord));
+	}
+
+	/**
+	 * The decoded information of a device maps to the same aggregated device as the full payload
+	 */
+	@Test
+	void testMappedProperties() throws IOException {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(MagicInfoConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		AggregatedDeviceProcessor processor = new AggregatedDeviceProcessor(mapping);
+		CompactDeviceCodec mappingCodec = CompactDeviceCodec.forMappings(mapping.values(), Collections.singletonList(Collections.singletonList(MagicInfoConstant.DEVICE_ID)));
+
+		ObjectNode node = objectMapper.createObjectNode();
+		int index = 0;
+		for (List<String> path : mappingCodec.getPaths()) {
+			ObjectNode parent = node;
+			for (String field : path.subList(0, path.size() - 1)) {
+				parent = parent.has(field) ? (ObjectNode) parent.get(field) : parent.putObject(field);
+			}
+			String field = path.get(path.size() - 1);
+			switch (index++ % 4) {
+				case 0:
+					parent.put(field, "text-" + index);
+					break;
+				case 1:
+					parent.put(field, index);
+					break;
+				case 2:
+					parent.put(field, index % 8 == 2);
+					break;
+				default:
+					parent.putNull(field);
+					break;
+			}
+		}
+		((ObjectNode) node.get(MagicInfoConstant.GENERAL_CONF)).put(MagicInfoConstant.DEVICE_ID, "11-22-33-44-55-66").put("power", "true").put("unused", "unused");
+		node.put("unused", createLongText(LONG_VALUE_LENGTH));
+
+		byte[] record = mappingCodec.encode(node);
+		JsonNode decoded = writeAndRead(mappingCodec).decode(record);
+		List<AggregatedDevice> expected = processor.extractDevices(objectMapper.createArrayNode().add(node));
+		List<AggregatedDevice> actual = processor.extractDevices(objectMapper.createArrayNode().add(decoded));
+		assertFalse(expected.isEmpty());
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getDeviceId(), actual.get(i).getDeviceId());
+			assertEquals(expected.get(i).getDeviceName(), actual.get(i).getDeviceName());
+			assertEquals(expected.get(i).getDeviceModel(), actual.get(i).getDeviceModel());
+			assertEquals(expected.get(i).getDeviceOnline(), actual.get(i).getDeviceOnline());
+			assertEquals(expected.get(i).getProperties(), actual.get(i).getProperties());
+		}
+	}
+}
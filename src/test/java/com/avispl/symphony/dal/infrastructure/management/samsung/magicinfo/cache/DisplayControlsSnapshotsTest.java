@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.common.MagicInfoConstant;
+
+/**
+ * Unit tests of the invalidation and freshness of {@link DisplayControlsSnapshots}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DisplayControlsSnapshotsTest {
+	private static final String DEVICE_ID = "11-22-33-44-55-66";
+	private static final long MAX_AGE = 5000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final DisplayControlsSnapshots snapshots = new DisplayControlsSnapshots(MagicInfoConstant.DISPLAY_CONTROLS_SNAPSHOT_FIELDS);
+
+	/**
+	 * Creates the display information of a device, holding the given web browser url and a field not kept in snapshots.
+	 *
+	 * @param url web browser url
+	 * @return display information of the device
+	 */
+	private ObjectNode createDisplayInfo(String url) {
+		ObjectNode node = objectMapper.createObjectNode();
+		node.putObject(MagicInfoConstant.WEB_BROWSER_URL).put("url", url);
+		node.putObject(MagicInfoConstant.MNT_AUTO).put("maxTime", "3");
+		node.put("unused", "unused");
+		return node;
+	}
+
+	/**
+	 * Retrieves the web browser url of a fresh snapshot.
+	 *
+	 * @return web browser url
+	 */
+	private String getFreshUrl() {
+		return snapshots.getFresh(DEVICE_ID, MAX_AGE).get(MagicInfoConstant.WEB_BROWSER_URL).get("url").asText();
+	}
+
+	/**
+	 * Only the fields read by group controls are kept, and every read returns an independent copy
+	 */
+	@Test
+	void testKeptFieldsCopied() {
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://first"), System.currentTimeMillis());
+
+		ObjectNode expected = createDisplayInfo("http://first");
+		expected.remove("unused");
+		JsonNode snapshot = snapshots.getFresh(DEVICE_ID, MAX_AGE);
+		assertEquals(expected, snapshot);
+		((ObjectNode) snapshot.get(MagicInfoConstant.WEB_BROWSER_URL)).put("url", "http://changed");
+		assertEquals("http://first", getFreshUrl());
+	}
+
+	/**
+	 * An invalidated snapshot is not returned, display information requested before the invalidation is rejected, and
+	 * display information requested after it is stored
+	 */
+	@Test
+	void testInvalidateAfterControl() {
+		long requested = System.currentTimeMillis() - 1000;
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://first"), requested);
+		assertNotNull(snapshots.getFresh(DEVICE_ID, MAX_AGE));
+
+		snapshots.invalidate(DEVICE_ID);
+		assertNull(snapshots.getFresh(DEVICE_ID, MAX_AGE));
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://stale"), requested);
+		assertNull(snapshots.getFresh(DEVICE_ID, MAX_AGE));
+
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://second"), System.currentTimeMillis());
+		assertEquals("http://second", getFreshUrl());
+	}
+
+	/**
+	 * A snapshot requested earlier never replaces a snapshot requested later
+	 */
+	@Test
+	void testStaleSnapshotRejected() {
+		long now = System.currentTimeMillis();
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://newer"), now);
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://older"), now - 1000);
+		assertEquals("http://newer", getFreshUrl());
+
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://newest"), now + 1);
+		assertEquals("http://newest", getFreshUrl());
+	}
+
+	/**
+	 * A snapshot older than the age limit is not returned and is dropped as expired, as are snapshots of removed devices
+	 */
+	@Test
+	void testExpiredAndRetained() {
+		long expired = System.currentTimeMillis() - MAX_AGE * 2;
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://expired"), expired);
+		assertNull(snapshots.getFresh(DEVICE_ID, MAX_AGE));
+		assertNotNull(snapshots.getFresh(DEVICE_ID, MAX_AGE * 4));
+
+		snapshots.removeExpired(MAX_AGE);
+		assertNull(snapshots.getFresh(DEVICE_ID, MAX_AGE * 4));
+		snapshots.put(DEVICE_ID, createDisplayInfo("http://earlier"), expired - 1);
+		assertNotNull(snapshots.getFresh(DEVICE_ID, MAX_AGE * 4));
+
+		snapshots.retainAll(Collections.singletonList("other-device"));
+		assertNull(snapshots.getFresh(DEVICE_ID, MAX_AGE * 4));
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the coalescing of confirmations by {@link ConfirmationMultiplexer}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class ConfirmationMultiplexerTest {
+	private static final long TIMEOUT = 60 * 1000L;
+
+	private final Queue<Runnable> pendingRequests = new ConcurrentLinkedQueue<>();
+	private final ControlConfirmationTracker tracker = new ControlConfirmationTracker(pendingRequests::add, 10, 20);
+	private final List<List<String>> polls = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a multiplexer whose confirmation requests are recorded in {@link #polls} and answered by the given function.
+	 *
+	 * @param response response of a confirmation request for the given device ids
+	 * @return multiplexer
+	 */
+	private ConfirmationMultiplexer<String> createMultiplexer(Function<Collection<String>, Map<String, String>> response) {
+		return new ConfirmationMultiplexer<>(tracker, (requestId, deviceIds) -> {
+			polls.add(new ArrayList<>(deviceIds));
+			return response.apply(deviceIds);
+		});
+	}
+
+	/**
+	 * Runs the confirmation requests submitted to the tracker so far, requests they submit are left pending.
+	 *
+	 * @return number of requests run
+	 */
+	private int runPendingRequests() {
+		int count = pendingRequests.size();
+		for (int i = 0; i < count; i++) {
+			pendingRequests.poll().run();
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a confirmed response holding a result for each of the given device ids.
+	 *
+	 * @param deviceIds device ids
+	 * @return result per device id
+	 */
+	private static Map<String, String> confirmAll(Collection<String> deviceIds) {
+		Map<String, String> results = new HashMap<>();
+		deviceIds.forEach(deviceId -> results.put(deviceId, "confirmed-" + deviceId));
+		return results;
+	}
+
+	/**
+	 * Confirmations of several devices of the same request id are polled by a single request, while another request id
+	 * gets its own
+	 */
+	@Test
+	void testSameRequestIdCoalesced() throws Exception {
+		ConfirmationMultiplexer<String> multiplexer = createMultiplexer(ConfirmationMultiplexerTest::confirmAll);
+		CompletableFuture<String> first = multiplexer.confirm("request-1", "device-1", TIMEOUT);
+		CompletableFuture<String> second = multiplexer.confirm("request-1", "device-2", TIMEOUT);
+		CompletableFuture<String> third = multiplexer.confirm("request-1", "device-3", TIMEOUT);
+		CompletableFuture<String> other = multiplexer.confirm("request-2", "device-1", TIMEOUT);
+
+		assertEquals(2, runPendingRequests());
+		assertEquals(Arrays.asList(Arrays.asList("device-1", "device-2", "device-3"), Collections.singletonList("device-1")), polls);
+		assertEquals("confirmed-device-1", first.get(5, TimeUnit.SECONDS));
+		assertEquals("confirmed-device-2", second.get(5, TimeUnit.SECONDS));
+		assertEquals("confirmed-device-3", third.get(5, TimeUnit.SECONDS));
+		assertEquals("confirmed-device-1", other.get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * The result of a device is handed to every waiter of the device, and a device missing from a confirmed response
+	 * fails only its own waiters
+	 */
+	@Test
+	void testResultFanOut() throws Exception {
+		ConfirmationMultiplexer<String> multiplexer = createMultiplexer(deviceIds -> Collections.singletonMap("device-1", "on"));
+		CompletableFuture<String> first = multiplexer.confirm("request-1", "device-1", TIMEOUT);
+		CompletableFuture<String> second = multiplexer.confirm("request-1", "device-1", TIMEOUT);
+		CompletableFuture<String> missing = multiplexer.confirm("request-1", "device-2", TIMEOUT);
+
+		assertEquals(1, runPendingRequests());
+		assertEquals(Collections.singletonList(Arrays.asList("device-1", "device-2")), polls);
+		assertEquals("on", first.get(5, TimeUnit.SECONDS));
+		assertEquals("on", second.get(5, TimeUnit.SECONDS));
+		ExecutionException error = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+		assertTrue(error.getCause() instanceof IllegalArgumentException);
+	}
+
+	/**
+	 * A device joining while a request is in flight is not covered by it, a new request is sent for it
+	 */
+	@Test
+	void testLateWaiterPolledAgain() throws Exception {
+		List<CompletableFuture<String>> lateWaiters = new ArrayList<>();
+		AtomicReference<ConfirmationMultiplexer<String>> multiplexer = new AtomicReference<>();
+		multiplexer.set(createMultiplexer(deviceIds -> {
+			if (lateWaiters.isEmpty()) {
+				lateWaiters.add(multiplexer.get().confirm("request-1", "device-2", TIMEOUT));
+			}
+			return confirmAll(deviceIds);
+		}));
+		CompletableFuture<String> first = multiplexer.get().confirm("request-1", "device-1", TIMEOUT);
+
+		assertEquals(1, runPendingRequests());
+		assertEquals("confirmed-device-1", first.get(5, TimeUnit.SECONDS));
+		assertFalse(lateWaiters.get(0).isDone());
+
+		assertEquals(1, runPendingRequests());
+		assertEquals(Arrays.asList(Collections.singletonList("device-1"), Collections.singletonList("device-2")), polls);
+		assertEquals("confirmed-device-2", lateWaiters.get(0).get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Every waiter fails with a {@link TimeoutException} if the control is not confirmed in time, and a later
+	 * confirmation of the same request id starts a new request
+	 */
+	@Test
+	void testTimeout() throws Exception {
+		ConfirmationMultiplexer<String> multiplexer = createMultiplexer(deviceIds -> null);
+		CompletableFuture<String> first = multiplexer.confirm("request-1", "device-1", 200);
+		CompletableFuture<String> second = multiplexer.confirm("request-1", "device-2", 200);
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!(first.isDone() && second.isDone()) && System.currentTimeMillis() < deadline) {
+			runPendingRequests();
+			Thread.sleep(5);
+		}
+		for (CompletableFuture<String> waiter : Arrays.asList(first, second)) {
+			ExecutionException error = assertThrows(ExecutionException.class, () -> waiter.get(0, TimeUnit.SECONDS));
+			assertTrue(error.getCause() instanceof TimeoutException);
+		}
+		assertTrue(polls.stream().allMatch(deviceIds -> deviceIds.equals(Arrays.asList("device-1", "device-2"))));
+
+		polls.clear();
+		multiplexer.confirm("request-1", "device-3", TIMEOUT);
+		runPendingRequests();
+		assertEquals(Collections.singletonList(Collections.singletonList("device-3")), polls);
+	}
+
+	/**
+	 * A failing confirmation request fails every waiter of the request id with its error
+	 */
+	@Test
+	void testRequestFailure() throws Exception {
+		IllegalStateException failure = new IllegalStateException("unreachable");
+		ConfirmationMultiplexer<String> multiplexer = createMultiplexer(deviceIds -> {
+			throw failure;
+		});
+		CompletableFuture<String> first = multiplexer.confirm("request-1", "device-1", TIMEOUT);
+		CompletableFuture<String> second = multiplexer.confirm("request-1", "device-2", TIMEOUT);
+
+		assertEquals(1, runPendingRequests());
+		for (CompletableFuture<String> waiter : Arrays.asList(first, second)) {
+			ExecutionException error = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+			assertEquals(failure, error.getCause());
+		}
+	}
+}
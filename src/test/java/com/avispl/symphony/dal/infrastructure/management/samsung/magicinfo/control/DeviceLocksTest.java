@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the serialization of controls by {@link DeviceLocks}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DeviceLocksTest {
+	private static final int STRIPE_COUNT = 16;
+	private static final int THREAD_COUNT = 8;
+
+	private final DeviceLocks locks = new DeviceLocks(STRIPE_COUNT);
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Retrieves a device id whose lock is not the lock of the given device.
+	 *
+	 * @param deviceId id of the device
+	 * @return device id on another stripe
+	 */
+	private String getDeviceOnOtherStripe(String deviceId) {
+		for (int i = 0; ; i++) {
+			String otherId = "device-" + i;
+			if (locks.get(otherId) != locks.get(deviceId)) {
+				return otherId;
+			}
+		}
+	}
+
+	/**
+	 * Controls of the same device never run at the same time
+	 */
+	@Test
+	void testSameDeviceSerialized() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> controls = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT * 4; i++) {
+			controls.add(executor.submit(() -> {
+				start.await();
+				ReentrantLock lock = locks.get("device-1");
+				lock.lock();
+				try {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					Thread.sleep(2);
+					running.decrementAndGet();
+				} finally {
+					lock.unlock();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> control : controls) {
+			control.get(10, TimeUnit.SECONDS);
+		}
+		assertSame(locks.get("device-1"), locks.get("device-1"));
+		assertEquals(1, maxRunning.get());
+	}
+
+	/**
+	 * A control of a device on another stripe runs while a control of the first device holds its lock
+	 */
+	@Test
+	void testDifferentStripesConcurrent() throws Exception {
+		String otherId = getDeviceOnOtherStripe("device-1");
+		assertNotSame(locks.get("device-1"), locks.get(otherId));
+
+		CountDownLatch firstLocked = new CountDownLatch(1);
+		CountDownLatch otherRan = new CountDownLatch(1);
+		Future<Boolean> first = executor.submit(() -> {
+			ReentrantLock lock = locks.get("device-1");
+			lock.lock();
+			try {
+				firstLocked.countDown();
+				return otherRan.await(5, TimeUnit.SECONDS);
+			} finally {
+				lock.unlock();
+			}
+		});
+		assertTrue(firstLocked.await(5, TimeUnit.SECONDS));
+		Future<?> other = executor.submit(() -> {
+			ReentrantLock lock = locks.get(otherId);
+			lock.lock();
+			try {
+				otherRan.countDown();
+			} finally {
+				lock.unlock();
+			}
+		});
+		other.get(5, TimeUnit.SECONDS);
+		assertTrue(first.get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Bulk controls locking the same devices in opposite orders both complete
+	 */
+	@Test
+	void testLockAllNoDeadlock() throws Exception {
+		String otherId = getDeviceOnOtherStripe("device-1");
+		List<Future<?>> controls = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			List<String> deviceIds = i % 2 == 0 ? Arrays.asList("device-1", otherId) : Arrays.asList(otherId, "device-1");
+			controls.add(executor.submit(() -> {
+				for (int j = 0; j < 100; j++) {
+					List<ReentrantLock> acquired = locks.lockAll(deviceIds);
+					locks.unlockAll(acquired);
+				}
+			}));
+		}
+		for (Future<?> control : controls) {
+			control.get(10, TimeUnit.SECONDS);
+		}
+		assertTrue(Arrays.asList(locks.get("device-1"), locks.get(otherId)).stream().noneMatch(ReentrantLock::isLocked));
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the request limits of {@link CollectionEngine}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CollectionEngineTest {
+	private static final String HOST = "collection-engine-test";
+
+	private final List<CollectionEngine.Registration> registrations = new ArrayList<>();
+	private final AtomicInteger runningRequests = new AtomicInteger();
+	private final AtomicInteger maxRunningRequests = new AtomicInteger();
+
+	@AfterEach
+	void destroy() {
+		registrations.forEach(CollectionEngine.Registration::deregister);
+	}
+
+	/**
+	 * Registers an instance with the engine, it is deregistered after the test.
+	 *
+	 * @param port port of the instance
+	 * @param maxConcurrentRequests maximum number of requests in flight of the instance
+	 * @return registration of the instance
+	 */
+	private CollectionEngine.Registration register(int port, int maxConcurrentRequests) {
+		CollectionEngine.Registration registration = CollectionEngine.getInstance().register(HOST, port, maxConcurrentRequests);
+		registrations.add(registration);
+		return registration;
+	}
+
+	/**
+	 * Submits requests that wait for the given latch, and records how many of them run at the same time.
+	 *
+	 * @param registration registration submitting the requests
+	 * @param count number of requests
+	 * @param release latch the requests wait for
+	 * @return futures of the requests
+	 */
+	private List<Future<Object>> submitBlockingRequests(CollectionEngine.Registration registration, int count, CountDownLatch release) {
+		List<Future<Object>> futures = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			futures.add(registration.submit(() -> {
+				maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} finally {
+					runningRequests.decrementAndGet();
+				}
+				return null;
+			}));
+		}
+		return futures;
+	}
+
+	/**
+	 * Waits for the given futures to complete.
+	 *
+	 * @param futures futures to wait for
+	 * @throws Exception if a future fails or times out
+	 */
+	private void awaitAll(List<Future<Object>> futures) throws Exception {
+		for (Future<Object> future : futures) {
+			future.get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Instances of the same host and port share the smallest of their limits
+	 *
+	 * @throws Exception if the requests fail
+	 */
+	@Test
+	void testSmallestLimitOfHostAndPortApplies() throws Exception {
+		CollectionEngine.Registration first = register(7001, 3);
+		register(7001, 2);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<Object>> futures = submitBlockingRequests(first, 6, release);
+		Thread.sleep(300);
+		assertEquals(2, runningRequests.get());
+		release.countDown();
+		awaitAll(futures);
+		assertEquals(2, maxRunningRequests.get());
+	}
+
+	/**
+	 * The limit of a deregistered instance does not apply anymore
+	 *
+	 * @throws Exception if the requests fail
+	 */
+	@Test
+	void testLimitIsRestoredAfterDeregistration() throws Exception {
+		CollectionEngine.Registration first = register(7002, 3);
+		CollectionEngine.Registration second = register(7002, 1);
+		second.deregister();
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<Object>> futures = submitBlockingRequests(first, 6, release);
+		Thread.sleep(300);
+		assertEquals(3, runningRequests.get());
+		release.countDown();
+		awaitAll(futures);
+		assertEquals(3, maxRunningRequests.get());
+	}
+
+	/**
+	 * Instances of the same host on different ports do not share their limit
+	 *
+	 * @throws Exception if the requests fail
+	 */
+	@Test
+	void testPortsHaveSeparateLimits() throws Exception {
+		CollectionEngine.Registration first = register(7003, 1);
+		CollectionEngine.Registration second = register(7004, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<Object>> futures = submitBlockingRequests(first, 1, release);
+		futures.addAll(submitBlockingRequests(second, 1, release));
+		Thread.sleep(300);
+		assertEquals(2, runningRequests.get());
+		release.countDown();
+		awaitAll(futures);
+	}
+
+	/**
+	 * Priority requests start before the collection requests queued earlier
+	 *
+	 * @throws Exception if the requests fail
+	 */
+	@Test
+	void testPriorityRequestsStartFirst() throws Exception {
+		CollectionEngine.Registration registration = register(7006, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<Object>> futures = submitBlockingRequests(registration, 3, release);
+		List<String> startOrder = Collections.synchronizedList(new ArrayList<>());
+		futures.add(registration.submit(() -> startOrder.add("collection")));
+		futures.add(registration.submitPriority(() -> startOrder.add("priority")));
+		release.countDown();
+		awaitAll(futures);
+		assertEquals(Arrays.asList("priority", "collection"), startOrder);
+	}
+
+	/**
+	 * A deregistered instance can not submit requests anymore, and its queued requests are cancelled
+	 *
+	 * @throws Exception if the requests fail
+	 */
+	@Test
+	void testDeregisteredInstanceRejectsRequests() throws Exception {
+		CollectionEngine.Registration registration = register(7005, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Future<Object>> futures = submitBlockingRequests(registration, 2, release);
+		registration.deregister();
+		release.countDown();
+		assertTrue(futures.get(1).isCancelled());
+		assertThrows(RejectedExecutionException.class, () -> registration.submit(() -> null));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.samsung.magicinfo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the scheduling of {@link CollectionTask collection tasks} by {@link CollectionEngine}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CollectionTaskTest {
+	private CollectionEngine.Registration registration;
+
+	@BeforeEach
+	void setUp() {
+		registration = CollectionEngine.getInstance().register("collection-task-test", 7001, 4);
+	}
+
+	@AfterEach
+	void destroy() {
+		registration.deregister();
+	}
+
+	/**
+	 * The next run of a task is due one interval after the end of its run, a requested refresh makes it due right away
+	 */
+	@Test
+	void testNextRunTimestamp() {
+		CollectionTask task = new CollectionTask("task", () -> 10000, 5000, () -> true, () -> {
+		});
+		assertTrue(task.getNextRunTimestamp() > System.currentTimeMillis() + 4000);
+		task.requestRefresh();
+		assertEquals(0, task.getNextRunTimestamp());
+		task.run();
+		assertTrue(task.getNextRunTimestamp() > System.currentTimeMillis() + 9000);
+	}
+
+	/**
+	 * A task runs after its initial delay, and again after every interval
+	 *
+	 * @throws Exception if the task does not run
+	 */
+	@Test
+	void testTaskRunsOnItsInterval() throws Exception {
+		CountDownLatch runs = new CountDownLatch(3);
+		registration.register(new CollectionTask("interval", () -> 50, 0, () -> true, runs::countDown));
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * A disabled task does not run, and runs once it is enabled and the engine is signalled
+	 *
+	 * @throws Exception if the task does not run
+	 */
+	@Test
+	void testDisabledTaskDoesNotRun() throws Exception {
+		AtomicBoolean enabled = new AtomicBoolean();
+		CountDownLatch runs = new CountDownLatch(1);
+		registration.register(new CollectionTask("disabled", () -> 50, 0, enabled::get, runs::countDown));
+		assertFalse(runs.await(300, TimeUnit.MILLISECONDS));
+		enabled.set(true);
+		registration.signal();
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * A requested refresh runs a task right away, without waiting for its interval
+	 *
+	 * @throws Exception if the task does not run
+	 */
+	@Test
+	void testRequestedRefreshRunsRightAway() throws Exception {
+		CountDownLatch runs = new CountDownLatch(1);
+		registration.register(new CollectionTask("refresh", () -> 60000, 60000, () -> true, runs::countDown));
+		registration.requestRefresh("refresh");
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * A task never runs concurrently with itself, even with an interval shorter than its run
+	 *
+	 * @throws Exception if the task does not run
+	 */
+	@Test
+	void testTaskDoesNotOverlapItself() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch runs = new CountDownLatch(3);
+		registration.register(new CollectionTask("overlap", () -> 0, 0, () -> true, () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+				runs.countDown();
+			}
+		}));
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+		assertEquals(1, maxRunning.get());
+	}
+}